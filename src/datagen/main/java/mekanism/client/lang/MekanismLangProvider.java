@@ -1077,6 +1077,10 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RADIATION_REDUCE, "Reduced player radiation by %1$s.");
         add(MekanismLang.COMMAND_RADIATION_REDUCE_TARGET, "Reduced entity radiation for %1$s by %2$s.");
         add(MekanismLang.COMMAND_RADIATION_REMOVE_ALL, "Removed all radiation sources.");
+        add(MekanismLang.COMMAND_NETWORKS_TOP, "Top %1$s of %2$s networks by average update time:");
+        add(MekanismLang.COMMAND_NETWORKS_TOP_ENTRY, "%1$s. %2$s at (%3$s) in %4$s: %5$s µs/t average, %6$s µs max, %7$s acceptors, %8$s transferred/t");
+        add(MekanismLang.COMMAND_NETWORKS_DUMP, "Wrote metrics for %1$s networks to %2$s.");
+        add(MekanismLang.COMMAND_ERROR_NETWORKS_DUMP, "Failed to write network metrics, see the log for details.");
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%1$s) in %2$s for retrogen.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
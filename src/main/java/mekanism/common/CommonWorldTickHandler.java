@@ -1,24 +1,29 @@
 package mekanism.common;
 
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMaps;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import mekanism.api.SerializationConstants;
 import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.miner.MinerBlockChangeTracker;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
+import mekanism.common.lib.ItemEntitySnapshot;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.network.TileUpdateBatcher;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
+import mekanism.common.world.RetrogenProgress;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -44,12 +49,18 @@ import org.jetbrains.annotations.Nullable;
 
 public class CommonWorldTickHandler {
 
-    private static final long maximumDeltaTimeNanoSecs = 16_000_000; // 16 milliseconds
-
     //TODO: I believe this may be fine as is with just the load and save methods being synchronized
     // but there is a chance this is not the case in which case we should adjust how this is done
     private Map<ResourceLocation, Object2IntMap<ChunkPos>> chunkVersions;
-    private Map<ResourceLocation, Queue<ChunkPos>> chunkRegenMap;
+    /**
+     * Chunks that need to be retrogenned by dimension, stored as packed chunk positions in the order they were queued.
+     */
+    private Map<ResourceLocation, LongLinkedOpenHashSet> chunkRegenMap;
+    private final RetrogenProgress retrogenProgress = new RetrogenProgress();
+    /**
+     * Time spent retrogenning chunks this server tick across all dimensions, so that having multiple dimensions with chunks to retrogen doesn't multiply the budget.
+     */
+    private long retrogenNanosThisTick;
     public static boolean flushTagAndRecipeCaches;
     public static boolean monitoringCardboardBox;
     @Nullable
@@ -59,22 +70,14 @@ public class CommonWorldTickHandler {
         if (chunkRegenMap == null) {
             chunkRegenMap = new Object2ObjectArrayMap<>();
         }
-        ResourceLocation dimensionName = dimension.location();
-        if (!chunkRegenMap.containsKey(dimensionName)) {
-            LinkedList<ChunkPos> list = new LinkedList<>();
-            list.add(chunkCoord);
-            chunkRegenMap.put(dimensionName, list);
-        } else {
-            Queue<ChunkPos> regenPositions = chunkRegenMap.get(dimensionName);
-            if (!regenPositions.contains(chunkCoord)) {
-                regenPositions.add(chunkCoord);
-            }
-        }
+        //Note: We use a linked set so that checking if the chunk is already queued doesn't have to go through every queued chunk
+        chunkRegenMap.computeIfAbsent(dimension.location(), dim -> new LongLinkedOpenHashSet()).add(chunkCoord.toLong());
     }
 
     public void resetChunkData() {
         chunkRegenMap = null;
         chunkVersions = null;
+        retrogenProgress.reset();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
@@ -112,6 +115,14 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof Level level && !level.isClientSide()) {
+            //Let any digital miners that have search results for the changed position update them
+            MinerBlockChangeTracker.onBlockChanged(level, event.getPos(), event.getState());
+        }
+    }
+
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public synchronized void chunkSave(ChunkDataEvent.Save event) {
         LevelAccessor world = event.getLevel();
@@ -176,6 +187,15 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onTickStart(ServerTickEvent.Pre event) {
+        retrogenNanosThisTick = 0;
+        //Inventories may have changed since last tick, so make sure transporters don't predict insertions based on old contents
+        TransporterManager.clearSnapshots();
+        //Item entities have moved since last tick, so make sure collectors look them up again
+        ItemEntitySnapshot.clear();
+    }
+
     @SubscribeEvent
     public void onTick(ServerTickEvent.Post event) {
         boolean tickingNormally = event.getServer().tickRateManager().runsNormally();
@@ -183,6 +203,12 @@ public class CommonWorldTickHandler {
         RadiationManager.get().tickServer(tickingNormally);
     }
 
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void flushTileUpdates(ServerTickEvent.Post event) {
+        //Send tile updates after everything else has had a chance to tick, so that each tile is sent at most once per tick
+        TileUpdateBatcher.flush();
+    }
+
     @SubscribeEvent
     public void onTick(LevelTickEvent.Post event) {
         if (event.getLevel() instanceof ServerLevel world) {
@@ -206,20 +232,22 @@ public class CommonWorldTickHandler {
             ResourceLocation dimensionName = world.dimension().location();
             //Credit to E. Beef
             if (chunkRegenMap.containsKey(dimensionName)) {
-                Queue<ChunkPos> chunksToGen = chunkRegenMap.get(dimensionName);
+                LongLinkedOpenHashSet chunksToGen = chunkRegenMap.get(dimensionName);
                 //Chunk versions may be null if retrogen is forced by command
                 Object2IntMap<ChunkPos> dimensionChunkVersions = chunkVersions == null ? Object2IntMaps.emptyMap() : chunkVersions.getOrDefault(dimensionName, Object2IntMaps.emptyMap());
+                long budget = TimeUnit.MILLISECONDS.toNanos(MekanismConfig.world.retrogenTickBudget.get());
                 long startTime = System.nanoTime();
-                while (System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !chunksToGen.isEmpty()) {
-                    ChunkPos nextChunk = chunksToGen.poll();
-                    if (nextChunk == null) {
-                        break;
-                    }
+                while (retrogenNanosThisTick + System.nanoTime() - startTime < budget && !chunksToGen.isEmpty()) {
+                    ChunkPos nextChunk = new ChunkPos(chunksToGen.removeFirstLong());
                     //Ensure the chunk actually exists and is still loaded before trying to retrogen it
+                    //Note: If it isn't loaded, it still has its old version saved so will get queued again when it is next loaded
                     if (WorldUtils.isChunkLoaded(world, nextChunk)) {
                         if (GenHandler.generate(world, nextChunk)) {
-                            Mekanism.logger.info("Regenerating ores and salt at chunk {}", nextChunk);
+                            //Note: This is only logged at debug level, as when retrogenning large worlds logging every chunk slows it down,
+                            // and instead we periodically log the overall progress
+                            Mekanism.logger.debug("Regenerating ores and salt at chunk {}", nextChunk);
                         }
+                        retrogenProgress.chunkProcessed();
                         //Regardless of whether we were able to generate anything in the chunk, now that we have
                         // handled it, update the chunk version. We do this by removing tracking the chunk's
                         // version so that we can just default it to the latest version when saved and free up the
@@ -229,9 +257,15 @@ public class CommonWorldTickHandler {
                         }
                     }
                 }
+                retrogenNanosThisTick += System.nanoTime() - startTime;
                 if (chunksToGen.isEmpty()) {
                     chunkRegenMap.remove(dimensionName);
                 }
+                long remaining = 0;
+                for (LongLinkedOpenHashSet queued : chunkRegenMap.values()) {
+                    remaining += queued.size();
+                }
+                retrogenProgress.report(remaining);
             }
         }
     }
@@ -37,6 +37,7 @@ import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.MinerBlockChangeTracker;
 import mekanism.common.content.network.ChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
@@ -56,6 +57,7 @@ import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispen
 import mekanism.common.item.interfaces.IHasConditionalAttributes;
 import mekanism.common.item.loot.MekanismLootFunctions;
 import mekanism.common.item.predicate.MekanismItemPredicates;
+import mekanism.common.lib.ItemEntitySnapshot;
 import mekanism.common.lib.MekAnnotationScanner;
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
@@ -67,6 +69,7 @@ import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.TileUpdateBatcher;
 import mekanism.common.network.to_client.transmitter.PacketChemicalNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketFluidNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketNetworkScale;
@@ -310,6 +313,9 @@ public class Mekanism {
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
+        MinerBlockChangeTracker.reset();
+        TileUpdateBatcher.reset();
+        ItemEntitySnapshot.clear();
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
@@ -185,6 +185,10 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RADIATION_REDUCE("command", "radiation.reduce"),
     COMMAND_RADIATION_REDUCE_TARGET("command", "radiation.reduce.target"),
     COMMAND_RADIATION_REMOVE_ALL("command", "radiation.remove_all"),
+    COMMAND_NETWORKS_TOP("command", "networks.top"),
+    COMMAND_NETWORKS_TOP_ENTRY("command", "networks.top.entry"),
+    COMMAND_NETWORKS_DUMP("command", "networks.dump"),
+    COMMAND_ERROR_NETWORKS_DUMP("command", "error.networks.dump"),
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
@@ -41,6 +41,7 @@ public class CommandMek {
               .then(ChunkCommand.register())
               .then(DebugCommand.register())
               .then(ForceRetrogenCommand.register())
+              .then(NetworksCommand.register())
               .then(RadiationCommand.register())
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
@@ -0,0 +1,98 @@
+package mekanism.common.command;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.MekanismPermissions;
+import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.lib.transmitter.NetworkMetrics;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.Level;
+
+public class NetworksCommand {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final SimpleCommandExceptionType DUMP_FAILED = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_NETWORKS_DUMP.translate());
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("networks")
+              .requires(MekanismPermissions.COMMAND_NETWORKS)
+              .then(Commands.literal("top")
+                    .requires(MekanismPermissions.COMMAND_NETWORKS_TOP)
+                    .executes(ctx -> top(ctx.getSource(), 10))
+                    .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                          .executes(ctx -> top(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count")))
+                    )
+              ).then(Commands.literal("dump")
+                    .requires(MekanismPermissions.COMMAND_NETWORKS_DUMP)
+                    .executes(ctx -> dump(ctx.getSource()))
+              );
+    }
+
+    private static int top(CommandSourceStack source, int count) {
+        List<DynamicNetwork<?, ?, ?>> networks = new ArrayList<>(TransmitterNetworkRegistry.getInstance().getNetworks());
+        networks.sort(Comparator.comparingDouble((DynamicNetwork<?, ?, ?> network) -> network.getMetrics().getAverageUpdateNanos()).reversed());
+        int shown = Math.min(count, networks.size());
+        source.sendSuccess(() -> MekanismLang.COMMAND_NETWORKS_TOP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, shown, EnumColor.INDIGO, networks.size()), false);
+        for (int i = 0; i < shown; i++) {
+            DynamicNetwork<?, ?, ?> network = networks.get(i);
+            NetworkMetrics metrics = network.getMetrics();
+            int rank = i + 1;
+            source.sendSuccess(() -> MekanismLang.COMMAND_NETWORKS_TOP_ENTRY.translateColored(EnumColor.GRAY, rank, EnumColor.INDIGO, network.getClass().getSimpleName(),
+                  EnumColor.INDIGO, getPosition(network), EnumColor.INDIGO, getDimension(network), EnumColor.INDIGO, formatMicros(metrics.getAverageUpdateNanos()),
+                  EnumColor.INDIGO, formatMicros(metrics.getMaxUpdateNanos()), EnumColor.INDIGO, network.getAcceptorCount(), EnumColor.INDIGO,
+                  String.format("%.1f", metrics.getAverageTransferred())), false);
+        }
+        return shown;
+    }
+
+    private static int dump(CommandSourceStack source) throws CommandSyntaxException {
+        TransmitterNetworkRegistry registry = TransmitterNetworkRegistry.getInstance();
+        Path path = source.getServer().getServerDirectory().resolve("debug").resolve(Mekanism.MODID).resolve("networks-" + Util.getFilenameFormattedDateTime() + ".json");
+        try {
+            Files.createDirectories(path.getParent());
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                GSON.toJson(registry.metricsToJson(), writer);
+            }
+        } catch (IOException e) {
+            Mekanism.logger.error("Failed to write network metrics to {}", path, e);
+            throw DUMP_FAILED.create();
+        }
+        int networks = registry.getNetworks().size();
+        source.sendSuccess(() -> MekanismLang.COMMAND_NETWORKS_DUMP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, networks, EnumColor.INDIGO, path.toString()), true);
+        return networks;
+    }
+
+    private static Component getPosition(DynamicNetwork<?, ?, ?> network) {
+        BlockPos pos = network.getAnyTransmitterPos();
+        return pos == null ? MekanismLang.UNKNOWN.translate() : MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    private static Object getDimension(DynamicNetwork<?, ?, ?> network) {
+        Level world = network.getWorld();
+        return world == null ? MekanismLang.UNKNOWN.translate() : world.dimension().location();
+    }
+
+    private static String formatMicros(double nanos) {
+        return String.format("%.1f", nanos / 1_000);
+    }
+}
@@ -43,6 +43,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue resistiveHeaterEfficiency;
     public final CachedDoubleValue superheatingHeatTransfer;
     public final CachedIntValue maxSolarNeutronActivatorRate;
+    public final CachedBooleanValue parallelNetworkTicks;
+    public final CachedBooleanValue batchedFactoryProcessing;
     public final CachedIntValue fluidItemFillRate;
     public final CachedLongValue chemicalItemFillRate;
     //Auto eject
@@ -92,6 +94,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedLongValue entangloporterEnergyBuffer;
     public final CachedIntValue entangloporterFluidBuffer;
     public final CachedLongValue entangloporterChemicalBuffer;
+    //QIO
+    public final CachedIntValue qioViewerSyncInterval;
     //Security
     public final CachedBooleanValue allowProtection;
     public final CachedBooleanValue opsBypassRestrictions;
@@ -140,6 +144,10 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxUpgradeMultiplier", 10, 1, Integer.MAX_VALUE));
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_RATE_SNA.applyToBuilder(builder)
               .defineInRange("maxSolarNeutronActivatorRate", 64, 1, 1_024));
+        parallelNetworkTicks = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_PARALLEL_NETWORK_TICKS.applyToBuilder(builder)
+              .define("parallelNetworkTicks", false));
+        batchedFactoryProcessing = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_BATCHED_FACTORY_PROCESSING.applyToBuilder(builder)
+              .define("batchedFactoryProcessing", true));
 
         MekanismConfigTranslations.GENERAL_HEATER.applyToBuilder(builder).push("heater");
         heatPerFuelTick = CachedDoubleValue.wrap(this, MekanismConfigTranslations.GENERAL_FUELWOOD_HEAT.applyToBuilder(builder)
@@ -270,6 +278,11 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("chemicalBuffer", ChemicalTankTier.ULTIMATE.getBaseStorage(), 1, Long.MAX_VALUE));
         builder.pop();
 
+        MekanismConfigTranslations.GENERAL_QIO.applyToBuilder(builder).push("qio");
+        qioViewerSyncInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_QIO_VIEWER_SYNC_INTERVAL.applyToBuilder(builder)
+              .defineInRange("viewerSyncInterval", 5, 1, SharedConstants.TICKS_PER_SECOND * 5));
+        builder.pop();
+
         MekanismConfigTranslations.GENERAL_SECURITY.applyToBuilder(builder).push("security");
         allowProtection = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_SECURITY_ENABLED.applyToBuilder(builder)
               .define("allowProtection", true));
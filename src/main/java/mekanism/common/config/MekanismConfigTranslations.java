@@ -123,6 +123,13 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
           "Base factor for working out machine performance with upgrades - UpgradeModifier * (UpgradesInstalled/UpgradesPossible)."),
     GENERAL_RATE_SNA("general.misc.rate.sna", "Peak SNA Processing Rate",
           "Peak processing rate in mB/t for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments."),
+    GENERAL_PARALLEL_NETWORK_TICKS("general.misc.parallel_network_ticks", "Parallel Network Ticking",
+          "Experimental: Allows energy, fluid, and chemical networks that don't have any acceptors near each other to distribute their contents at the same time on "
+          + "multiple threads. Networks that share or have nearby acceptors are always updated together on the same thread. Only networks that are exclusively "
+          + "connected to Mekanism blocks are updated in parallel, networks connected to blocks from other mods are always updated on the server thread."),
+    GENERAL_BATCHED_FACTORY_PROCESSING("general.misc.batched_factory_processing", "Batched Factory Processing",
+          "Allows factories to update the recipes of all their processes before processing any of them, so that processes holding identical inputs only have to look "
+          + "up their recipe once per tick."),
 
     GENERAL_HEATER("general.heater", "Heater Settings", "Settings for configuring heaters", true),
     GENERAL_FUELWOOD_HEAT("general.heater.fuelwood.heat", "Fuelwood Heat per Tick", "Amount of heat produced per fuel tick of a fuel's burn time in the Fuelwood Heater."),
@@ -230,6 +237,11 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_QE_BUFFER_CHEMICAL("general.qe.buffer.chemical", "Chemical Buffer",
           "Maximum chemical buffer (mb) of an Entangoloporter frequency - i.e. the maximum transfer per tick per frequency. Default is the ultimate chemical tank's capacity."),
 
+    GENERAL_QIO("general.qio", "QIO", "Settings for configuring the QIO system", true),
+    GENERAL_QIO_VIEWER_SYNC_INTERVAL("general.qio.viewer_sync_interval", "Item Viewer Sync Interval",
+          "Number of ticks changes to the items stored in a QIO frequency are collected for before they are sent to players viewing the frequency. Higher values send "
+          + "fewer but larger updates."),
+
     GENERAL_SECURITY("general.security", "Block security/protection Settings", "Settings for configuring Mekanism's security system", true),
     GENERAL_SECURITY_ENABLED("general.security.enabled", "Allow Protection",
           "Enable the security system. This allows players to prevent other players from accessing their machines. Does NOT affect Frequencies."),
@@ -365,6 +377,9 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
           "Allows chunks to retrogen Mekanism salt and ore blocks. In general when enabling this you also want to bump the userWorldGenVersion."),
     WORLD_WORLD_VERSION("world.world_version", "User World Version",
           "Change this value to cause Mekanism to regen its ore in all loaded chunks that have a version lower than this."),
+    WORLD_RETROGEN_TICK_BUDGET("world.retrogen_tick_budget", "Retrogen Tick Budget",
+          "Maximum number of milliseconds to spend retrogenning chunks each server tick, shared between all dimensions. Lower values keep the server responsive while "
+          + "retrogenning large worlds, at the cost of the retrogen taking longer."),
     WORLD_HEIGHT_RANGE_PLATEAU("world.height_range.plateau", "Plateau",
           "Half length of short side of trapezoid, only used if the shape is Trapezoid. A value of zero means the shape is a triangle."),
     WORLD_ANCHOR_TYPE("world.height_range.anchor.type", "Anchor Type", "The type of anchor. This is used to define how the value is used in calculating the y-level."),
@@ -27,6 +27,7 @@ public class WorldConfig extends BaseMekanismConfig {
     private final ModConfigSpec configSpec;
     public final CachedBooleanValue enableRegeneration;
     public final CachedIntValue userGenVersion;
+    public final CachedIntValue retrogenTickBudget;
 
     private final Map<OreType, OreConfig> ores = new EnumMap<>(OreType.class);
     public final SaltConfig salt;
@@ -38,6 +39,8 @@ public class WorldConfig extends BaseMekanismConfig {
               .define("enableRegeneration", false));
         userGenVersion = CachedIntValue.wrap(this, MekanismConfigTranslations.WORLD_WORLD_VERSION.applyToBuilder(builder)
               .defineInRange("userWorldGenVersion", 0, 0, Integer.MAX_VALUE));
+        retrogenTickBudget = CachedIntValue.wrap(this, MekanismConfigTranslations.WORLD_RETROGEN_TICK_BUDGET.applyToBuilder(builder)
+              .defineInRange("retrogenTickBudget", 16, 1, 1_000));
         for (OreType ore : EnumUtils.ORE_TYPES) {
             ores.put(ore, new OreConfig(this, builder, ore));
         }
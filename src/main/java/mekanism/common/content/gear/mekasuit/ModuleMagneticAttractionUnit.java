@@ -18,6 +18,7 @@ import mekanism.api.text.TextComponentUtil;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.ItemEntitySnapshot;
 import mekanism.common.network.to_client.PacketLightningRender;
 import mekanism.common.network.to_client.PacketLightningRender.LightningPreset;
 import net.minecraft.network.chat.Component;
@@ -52,7 +53,7 @@ public record ModuleMagneticAttractionUnit(Range range) implements ICustomModule
                 //If the energy cost is free, or we have enough energy for at least one pull grab all the items that can be picked up.
                 //Note: We check distance afterwards so that we aren't having to calculate a bunch of distances when we may run out
                 // of energy, and calculating distance is a bit more expensive than just checking if it can be picked up
-                List<ItemEntity> items = player.level().getEntitiesOfClass(ItemEntity.class, player.getBoundingBox().inflate(size, size, size), item -> !item.hasPickUpDelay());
+                List<ItemEntity> items = ItemEntitySnapshot.getItems(player.level(), player.getBoundingBox().inflate(size, size, size), item -> !item.hasPickUpDelay());
                 for (ItemEntity item : items) {
                     if (item.distanceTo(player) > 0.001) {
                         if (free) {
@@ -2,6 +2,8 @@ package mekanism.common.content.gear.mekatool;
 
 import com.mojang.serialization.Codec;
 import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.function.IntFunction;
@@ -18,7 +20,8 @@ import mekanism.api.text.TextComponentUtil;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.network.PacketUtils;
-import mekanism.common.network.to_client.PacketLightningRender;
+import mekanism.common.network.to_client.PacketBatchLightningRender;
+import mekanism.common.network.to_client.PacketBatchLightningRender.Bolt;
 import mekanism.common.network.to_client.PacketLightningRender.LightningPreset;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.util.MekanismUtils;
@@ -218,6 +221,7 @@ public record ModuleFarmingUnit(FarmingRadius farmingRadius) implements ICustomM
         toolAOEData.persistData(world, pos, clickedState, side);
         //Note: We don't need to copy this as we add to it in a non modifying way
         long energyUsed = energyUsage;
+        List<Bolt> bolts = new ArrayList<>();
         for (BlockPos newPos : toolAOEData.getTargetPositions(pos, side, (diameter - 1) / 2)) {
             if (pos.equals(newPos)) {
                 //Skip the source position as we manually handled it before the loop
@@ -253,10 +257,12 @@ public record ModuleFarmingUnit(FarmingRadius farmingRadius) implements ICustomM
                 if (particle != -1) {
                     world.levelEvent(null, particle, newPos, 0);
                 }
-                PacketUtils.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(pos, newPos),
-                      toolAOEData.getLightningPos(pos), toolAOEData.getLightningPos(newPos), 10), world, pos);
+                bolts.add(new Bolt(Objects.hash(pos, newPos), toolAOEData.getLightningPos(pos), toolAOEData.getLightningPos(newPos)));
             }
         }
+        if (!bolts.isEmpty()) {
+            PacketUtils.sendToAllTracking(new PacketBatchLightningRender(LightningPreset.TOOL_AOE, 10, bolts), world, pos);
+        }
         energyContainer.extract(energyUsed, Action.EXECUTE, AutomationType.MANUAL);
         return InteractionResult.CONSUME;
     }
@@ -3,16 +3,19 @@ package mekanism.common.content.gear.mekatool;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayFIFOQueue;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import mekanism.api.SerializationConstants;
@@ -38,7 +41,8 @@ import mekanism.common.block.BlockBounding;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.item.gear.ItemAtomicDisassembler.DisassemblerMode;
 import mekanism.common.network.PacketUtils;
-import mekanism.common.network.to_client.PacketLightningRender;
+import mekanism.common.network.to_client.PacketBatchLightningRender;
+import mekanism.common.network.to_client.PacketBatchLightningRender.Bolt;
 import mekanism.common.network.to_client.PacketLightningRender.LightningPreset;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
@@ -55,6 +59,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -139,40 +144,63 @@ public record ModuleVeinMiningUnit(boolean extended, ExcavationRange excavationR
         int maxVein = MekanismConfig.gear.disassemblerMiningCount.get();
         int maxCount = initial.size() + maxVein * oreTracker.size();
 
-        Map<BlockPos, BlockState> frontier = new LinkedHashMap<>(initial);
+        //Positions that have either been found or are in the frontier, so that we only look up each position once
+        LongSet seen = new LongOpenHashSet();
+        LongArrayFIFOQueue frontier = new LongArrayFIFOQueue(initial.size());
+        ObjectArrayFIFOQueue<Block> frontierBlocks = new ObjectArrayFIFOQueue<>(initial.size());
+        for (Entry<BlockPos, BlockState> entry : initial.entrySet()) {
+            long pos = entry.getKey().asLong();
+            seen.add(pos);
+            frontier.enqueue(pos);
+            frontierBlocks.enqueue(entry.getValue().getBlock());
+        }
+        List<Bolt> bolts = new ArrayList<>();
+        BlockPos.MutableBlockPos nextPos = new BlockPos.MutableBlockPos();
         TraversalDistance dist = new TraversalDistance(frontier.size());
         while (!frontier.isEmpty()) {
-            Iterator<Entry<BlockPos, BlockState>> iterator = frontier.entrySet().iterator();
-            Entry<BlockPos, BlockState> blockEntry = iterator.next();
-            iterator.remove();
-
-            BlockPos blockPos = blockEntry.getKey();
-            found.put(blockPos, dist.getDistance());
+            long blockPos = frontier.dequeueLong();
+            Block block = frontierBlocks.dequeue();
+            found.put(BlockPos.of(blockPos), dist.getDistance());
             if (found.size() >= maxCount) {
                 break;
             }
 
-            Block block = blockEntry.getValue().getBlock();
             boolean isOre = oreTracker.getBoolean(block);
             //If it is extended or should be treated as an ore
             if (isOre || extendedRange > dist.getDistance()) {
-                for (BlockPos nextPos : BlockPos.betweenClosed(blockPos.offset(-1, -1, -1), blockPos.offset(1, 1, 1))) {
-                    //We can check contains as mutable
-                    if (!found.containsKey(nextPos) && !frontier.containsKey(nextPos)) {
-                        Optional<BlockState> nextState = WorldUtils.getBlockState(world, nextPos);
-                        if (nextState.isPresent() && nextState.get().is(block)) {
-                            //Make sure to add it as immutable
-                            frontier.put(nextPos.immutable(), nextState.get());
-                            //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
-                            // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
-                            PacketUtils.sendToAllTracking(new PacketLightningRender(LightningPreset.TOOL_AOE, Objects.hash(blockPos, nextPos),
-                                  blockPos.getCenter(), nextPos.getCenter(), 10), world, blockPos);
+                int x = BlockPos.getX(blockPos), y = BlockPos.getY(blockPos), z = BlockPos.getZ(blockPos);
+                Vec3 center = null;
+                for (int nextX = x - 1; nextX <= x + 1; nextX++) {
+                    for (int nextY = y - 1; nextY <= y + 1; nextY++) {
+                        for (int nextZ = z - 1; nextZ <= z + 1; nextZ++) {
+                            long next = BlockPos.asLong(nextX, nextY, nextZ);
+                            if (!seen.contains(next)) {
+                                nextPos.set(nextX, nextY, nextZ);
+                                if (WorldUtils.isBlockLoaded(world, nextPos)) {
+                                    BlockState nextState = world.getBlockState(nextPos);
+                                    if (nextState.is(block)) {
+                                        seen.add(next);
+                                        frontier.enqueue(next);
+                                        frontierBlocks.enqueue(block);
+                                        //Note: We do this for all blocks we find/attempt to mine, not just ones we do mine, as it is a bit simpler
+                                        // and also represents those blocks getting checked by the vein mining for potentially being able to be mined
+                                        if (center == null) {
+                                            center = new Vec3(x + 0.5, y + 0.5, z + 0.5);
+                                        }
+                                        bolts.add(new Bolt(31 * Long.hashCode(blockPos) + Long.hashCode(next), center, Vec3.atCenterOf(nextPos)));
+                                    }
+                                }
+                            }
                         }
                     }
                 }
             }
             dist.updateDistance(found.size(), frontier.size());
         }
+        if (!bolts.isEmpty()) {
+            //Send all the bolts at once rather than a packet per block
+            PacketUtils.sendToAllTracking(new PacketBatchLightningRender(LightningPreset.TOOL_AOE, 10, bolts), world, initial.keySet().iterator().next());
+        }
         return found;
     }
 
@@ -0,0 +1,101 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Keeps track of which Digital Miners have search results, indexed by the chunks that were searched, so that they can be notified when a block in their region
+ * changes without every block change having to go through every miner.
+ *
+ * @implNote Miners may start being tracked from a search thread, so all access to the tracked miners is synchronized.
+ */
+@NothingNullByDefault
+public class MinerBlockChangeTracker {
+
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<List<TileEntityDigitalMiner>>> minersByChunk = new HashMap<>();
+    private static final Map<TileEntityDigitalMiner, TrackedMiner> trackedMiners = new Reference2ObjectOpenHashMap<>();
+
+    private MinerBlockChangeTracker() {
+    }
+
+    /**
+     * Tracks the given miner for changes in the chunks that were searched by the given result, replacing any chunks it was previously tracked for.
+     */
+    public static synchronized void track(ResourceKey<Level> dimension, TileEntityDigitalMiner miner, MinerSearchResult result) {
+        untrack(miner);
+        LongSet chunks = result.getSearchedChunks();
+        if (chunks.isEmpty()) {
+            return;
+        }
+        Long2ObjectMap<List<TileEntityDigitalMiner>> dimensionMiners = minersByChunk.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>());
+        for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
+            dimensionMiners.computeIfAbsent(iterator.nextLong(), chunk -> new ArrayList<>()).add(miner);
+        }
+        trackedMiners.put(miner, new TrackedMiner(dimension, chunks));
+    }
+
+    public static synchronized void untrack(TileEntityDigitalMiner miner) {
+        TrackedMiner tracked = trackedMiners.remove(miner);
+        if (tracked != null) {
+            Long2ObjectMap<List<TileEntityDigitalMiner>> dimensionMiners = minersByChunk.get(tracked.dimension());
+            if (dimensionMiners != null) {
+                for (LongIterator iterator = tracked.chunks().iterator(); iterator.hasNext(); ) {
+                    long chunk = iterator.nextLong();
+                    List<TileEntityDigitalMiner> miners = dimensionMiners.get(chunk);
+                    if (miners != null && miners.remove(miner) && miners.isEmpty()) {
+                        dimensionMiners.remove(chunk);
+                    }
+                }
+                if (dimensionMiners.isEmpty()) {
+                    minersByChunk.remove(tracked.dimension());
+                }
+            }
+        }
+    }
+
+    public static void onBlockChanged(Level level, BlockPos pos, BlockState state) {
+        TileEntityDigitalMiner[] miners;
+        synchronized (MinerBlockChangeTracker.class) {
+            if (minersByChunk.isEmpty()) {
+                return;
+            }
+            Long2ObjectMap<List<TileEntityDigitalMiner>> dimensionMiners = minersByChunk.get(level.dimension());
+            if (dimensionMiners == null) {
+                return;
+            }
+            List<TileEntityDigitalMiner> chunkMiners = dimensionMiners.get(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()),
+                  SectionPos.blockToSectionCoord(pos.getZ())));
+            if (chunkMiners == null) {
+                return;
+            }
+            //Copy the miners, as they may untrack themselves when notified
+            miners = chunkMiners.toArray(new TileEntityDigitalMiner[0]);
+        }
+        for (TileEntityDigitalMiner miner : miners) {
+            miner.onBlockChanged(pos, state);
+        }
+    }
+
+    public static synchronized void reset() {
+        minersByChunk.clear();
+        trackedMiners.clear();
+    }
+
+    private record TrackedMiner(ResourceKey<Level> dimension, LongSet chunks) {
+    }
+}
@@ -103,6 +103,19 @@ public class MinerRegionCache implements BlockGetter, CollisionGetter {
         }
     }
 
+    /**
+     * Gets the chunk at the given chunk position if it is part of this cache and was loaded when the cache was created.
+     */
+    @Nullable
+    public ChunkAccess getChunkIfPresent(int x, int z) {
+        int i = x - this.centerX;
+        int j = z - this.centerZ;
+        if (i >= 0 && i < this.chunks.length && j >= 0 && j < this.chunks[i].length) {
+            return this.chunks[i][j];
+        }
+        return null;
+    }
+
     @Override
     public WorldBorder getWorldBorder() {
         return this.level.getWorldBorder();
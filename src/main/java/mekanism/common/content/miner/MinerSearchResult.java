@@ -0,0 +1,100 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.BitSet;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+
+/**
+ * Result of a Digital Miner search. This is kept by the miner even after it is reset, and kept up to date as blocks in the region change, so that the next search over
+ * the same region only has to look for blocks that the filters did not accept last time, instead of scanning the entire region again.
+ */
+@NothingNullByDefault
+public class MinerSearchResult {
+
+    private final BlockPos start;
+    private final int diameter;
+    private final int height;
+    private final Long2ObjectMap<BitSet> oresToMine;
+    /**
+     * Whether the filters accepted each block that was seen during the search. For every block in this map the bits in {@link #oresToMine} match the stored value.
+     */
+    private final Reference2BooleanMap<Block> acceptedBlocks;
+    /**
+     * Chunks that were loaded and actually searched, any chunk not in this set has to be fully searched next time.
+     */
+    private final LongSet searchedChunks;
+
+    MinerSearchResult(BlockPos start, int diameter, int height, Long2ObjectMap<BitSet> oresToMine, Reference2BooleanMap<Block> acceptedBlocks, LongSet searchedChunks) {
+        this.start = start;
+        this.diameter = diameter;
+        this.height = height;
+        this.oresToMine = oresToMine;
+        this.acceptedBlocks = acceptedBlocks;
+        this.searchedChunks = searchedChunks;
+    }
+
+    public boolean matchesRegion(BlockPos start, int diameter, int height) {
+        return this.diameter == diameter && this.height == height && this.start.equals(start);
+    }
+
+    /**
+     * @return The index of the given position in the bitset of its chunk, or {@code -1} if the position is outside the region.
+     */
+    public int getIndex(BlockPos pos) {
+        int x = pos.getX() - start.getX();
+        int y = pos.getY() - start.getY();
+        int z = pos.getZ() - start.getZ();
+        if (x < 0 || x >= diameter || y < 0 || y >= height || z < 0 || z >= diameter) {
+            return -1;
+        }
+        return x + z * diameter + y * diameter * diameter;
+    }
+
+    public boolean wasSearched(BlockPos pos) {
+        return searchedChunks.contains(ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ())));
+    }
+
+    boolean wasSearched(long chunk) {
+        return searchedChunks.contains(chunk);
+    }
+
+    LongSet getSearchedChunks() {
+        return searchedChunks;
+    }
+
+    public Long2ObjectMap<BitSet> getOresToMine() {
+        return oresToMine;
+    }
+
+    public Reference2BooleanMap<Block> getAcceptedBlocks() {
+        return acceptedBlocks;
+    }
+
+    public int count() {
+        int count = 0;
+        for (BitSet bits : oresToMine.values()) {
+            count += bits.cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * Creates a deep copy of this result that can safely be read by a search while the original keeps being updated as blocks change.
+     */
+    public MinerSearchResult copy() {
+        Long2ObjectMap<BitSet> ores = new Long2ObjectOpenHashMap<>(oresToMine.size());
+        for (Long2ObjectMap.Entry<BitSet> entry : oresToMine.long2ObjectEntrySet()) {
+            ores.put(entry.getLongKey(), (BitSet) entry.getValue().clone());
+        }
+        return new MinerSearchResult(start, diameter, height, ores, new Reference2BooleanOpenHashMap<>(acceptedBlocks), new LongOpenHashSet(searchedChunks));
+    }
+}
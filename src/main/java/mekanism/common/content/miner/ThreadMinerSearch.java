@@ -3,10 +3,21 @@ package mekanism.common.content.miner;
 import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.text.IHasTextComponent.IHasEnumNameTextComponent;
 import mekanism.api.text.ILangEntry;
@@ -17,6 +28,7 @@ import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -30,94 +42,318 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
 
-public class ThreadMinerSearch extends Thread {
+public class ThreadMinerSearch {
+
+    /**
+     * Shared pool that all miner searches run on, so that many miners starting a search at once (for example after a server restart) don't each create their own
+     * thread. Searches are split into a task per chunk which lets a single large search make use of multiple workers.
+     */
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Digital Miner Search thread " + thread.getPoolIndex());
+        thread.setDaemon(true);
+        //Make sure the workers can see the mod's classes
+        thread.setContextClassLoader(ThreadMinerSearch.class.getClassLoader());
+        return thread;
+    }, null, false);
 
     private final TileEntityDigitalMiner tile;
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    private final AtomicInteger found = new AtomicInteger();
     private MinerRegionCache chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    @Nullable
+    private MinerSearchResult previousResult;
+    public volatile State state = State.IDLE;
+    private volatile boolean cancelled;
+    @Nullable
+    private ForkJoinTask<?> task;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
-        super("Digital Miner Search thread " + tile.getBlockPos());
         this.tile = tile;
-        setDaemon(true);
     }
 
     public void setChunkCache(MinerRegionCache cache) {
         this.chunkCache = cache;
     }
 
-    @Override
-    public void run() {
-        state = State.SEARCHING;
+    /**
+     * Sets the result of a previous search over the same region. The blocks it found are revalidated instead of being searched for again, and only blocks the filters
+     * didn't accept last time are looked for.
+     *
+     * @implNote The result should not be modified while this search is running, so callers should pass a {@link MinerSearchResult#copy() copy}.
+     */
+    public void setPreviousResult(@Nullable MinerSearchResult previousResult) {
+        this.previousResult = previousResult;
+    }
+
+    /**
+     * Submits this search to the shared search pool.
+     */
+    public void start() {
+        if (task == null) {
+            state = State.SEARCHING;
+            task = SEARCH_POOL.submit(this::run);
+        }
+    }
+
+    /**
+     * Cancels this search if it is still running. The results of a cancelled search are never passed to the miner.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return task != null && !task.isDone();
+    }
+
+    public int getFound() {
+        return found.get();
+    }
+
+    private boolean shouldStop() {
+        //Make sure the miner is still valid and something hasn't gone wrong
+        return cancelled || tile.isRemoved();
+    }
+
+    private void run() {
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
         BlockPos pos = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved() || isInterrupted()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+        int height = tile.getTotalSize() / (diameter * diameter);
+        Map<Block, Boolean> acceptedItems = new ConcurrentHashMap<>();
+        Map<BlockState, Boolean> candidateStates = new ConcurrentHashMap<>();
+        MinerSearchResult previous = previousResult;
+        if (previous != null && !previous.matchesRegion(pos, diameter, height)) {
+            //The region changed, so none of the previous results are useful
+            previous = null;
+        }
+        List<ChunkSearch> chunkSearches = new ArrayList<>();
+        int minChunkX = SectionPos.blockToSectionCoord(pos.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(pos.getX() + diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(pos.getZ() + diameter - 1);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunkSearches.add(new ChunkSearch(chunkX, chunkZ, pos, diameter, height, acceptedItems, candidateStates, previous));
             }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
+        }
+        ForkJoinTask.invokeAll(chunkSearches);
+
+        state = State.FINISHED;
+        chunkCache = null;
+        previousResult = null;
+        if (shouldStop()) {
+            return;//no point checking as we got cancelled
+        }
+        //Merge the results of the individual chunks
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        LongSet searchedChunks = new LongOpenHashSet(chunkSearches.size());
+        for (ChunkSearch chunkSearch : chunkSearches) {
+            long chunk = ChunkPos.asLong(chunkSearch.chunkX, chunkSearch.chunkZ);
+            if (chunkSearch.searched) {
+                searchedChunks.add(chunk);
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
-                continue;
+            if (!chunkSearch.toMine.isEmpty()) {
+                oresToMine.put(chunk, chunkSearch.toMine);
             }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
+        }
+        if (tile.searcher == this) {
+            //Only update search if we are still valid and didn't get replaced due to a reset call
+            tile.updateFromSearch(new MinerSearchResult(pos, diameter, height, oresToMine, new Reference2BooleanOpenHashMap<>(acceptedItems), searchedChunks), found.get());
+        }
+    }
+
+    private boolean isAccepted(BlockState state, Map<Block, Boolean> acceptedItems) {
+        return acceptedItems.computeIfAbsent(state.getBlock(), info -> {
+            if (tile.isReplaceTarget(info.asItem())) {
+                //If it is a replace target just mark it as never being accepted
+                return false;
             }
-            boolean accepted;
-            if (acceptedItems.containsKey(info)) {
-                accepted = acceptedItems.getBoolean(info);
+            //Ensure that the inverse mode is the opposite of the filter match
+            return tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+        });
+    }
+
+    /**
+     * Searches the part of the mining region that is in a single chunk.
+     */
+    private class ChunkSearch extends RecursiveAction {
+
+        private final int chunkX;
+        private final int chunkZ;
+        private final BlockPos start;
+        private final int diameter;
+        private final int height;
+        private final Map<Block, Boolean> acceptedItems;
+        private final Map<BlockState, Boolean> candidateStates;
+        @Nullable
+        private final MinerSearchResult previous;
+        @Nullable
+        private final BitSet previousToMine;
+        private final BitSet toMine = new BitSet();
+        private boolean searched;
+
+        private ChunkSearch(int chunkX, int chunkZ, BlockPos start, int diameter, int height, Map<Block, Boolean> acceptedItems,
+              Map<BlockState, Boolean> candidateStates, @Nullable MinerSearchResult previous) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.start = start;
+            this.diameter = diameter;
+            this.height = height;
+            this.acceptedItems = acceptedItems;
+            this.candidateStates = candidateStates;
+            long chunk = ChunkPos.asLong(chunkX, chunkZ);
+            if (previous != null && previous.wasSearched(chunk)) {
+                this.previous = previous;
+                this.previousToMine = previous.getOresToMine().get(chunk);
             } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    //If it is a replace target just mark it as never being accepted
-                    accepted = false;
-                } else {
-                    //Ensure that the inverse mode is the opposite of the filter match
-                    accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+                //If the chunk wasn't loaded last time, we need to search all of it
+                this.previous = null;
+                this.previousToMine = null;
+            }
+        }
+
+        @Override
+        protected void compute() {
+            MinerRegionCache chunkCache = ThreadMinerSearch.this.chunkCache;
+            if (chunkCache == null) {
+                return;
+            }
+            ChunkAccess chunk = chunkCache.getChunkIfPresent(chunkX, chunkZ);
+            if (chunk == null) {
+                //The chunk isn't loaded, so the cache would just treat it as being empty
+                return;
+            }
+            searched = true;
+            LevelChunkSection[] sections = chunk.getSections();
+            if (previousToMine != null) {
+                revalidate(chunk, sections);
+            }
+            //If we have a previous result, we only need to look for blocks that weren't accepted by the previous search, as the ones that were have
+            // already been revalidated
+            Predicate<BlockState> shouldCheck = previous == null ? this::isCandidate : this::isNewCandidate;
+            BlockPos minerPos = tile.getBlockPos();
+            //Relative bounds of the region that are within this chunk
+            int minX = Math.max(0, SectionPos.sectionToBlockCoord(chunkX) - start.getX());
+            int maxX = Math.min(diameter - 1, SectionPos.sectionToBlockCoord(chunkX, 15) - start.getX());
+            int minZ = Math.max(0, SectionPos.sectionToBlockCoord(chunkZ) - start.getZ());
+            int maxZ = Math.min(diameter - 1, SectionPos.sectionToBlockCoord(chunkZ, 15) - start.getZ());
+            int maxY = start.getY() + height - 1;
+            int minSectionY = Math.max(chunk.getMinSection(), SectionPos.blockToSectionCoord(start.getY()));
+            int maxSectionY = Math.min(chunk.getMaxSection() - 1, SectionPos.blockToSectionCoord(maxY));
+            int layerSize = diameter * diameter;
+            BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+            for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                if (shouldStop()) {
+                    return;
+                }
+                LevelChunkSection section = sections[chunk.getSectionIndexFromSectionY(sectionY)];
+                if (section.hasOnlyAir() || !section.getStates().maybeHas(shouldCheck)) {
+                    //Skip the entire section if there is nothing in its palette that we may want to mine
+                    continue;
+                }
+                int count = 0;
+                int sectionMinY = Math.max(start.getY(), SectionPos.sectionToBlockCoord(sectionY));
+                int sectionMaxY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+                for (int worldY = sectionMinY; worldY <= sectionMaxY; worldY++) {
+                    int y = worldY - start.getY();
+                    for (int z = minZ; z <= maxZ; z++) {
+                        int worldZ = start.getZ() + z;
+                        for (int x = minX; x <= maxX; x++) {
+                            int worldX = start.getX() + x;
+                            //Read directly from the section's palette rather than looking up the chunk for every position
+                            BlockState state = section.getBlockState(worldX & 15, worldY & 15, worldZ & 15);
+                            if (!shouldCheck.test(state)) {
+                                continue;
+                            }
+                            if (!isMineablePosition(minerPos, testPos.set(worldX, worldY, worldZ), state)) {
+                                continue;
+                            }
+                            int index = x + z * diameter + y * layerSize;
+                            if (!toMine.get(index)) {
+                                toMine.set(index);
+                                count++;
+                            }
+                        }
+                    }
+                }
+                if (count > 0) {
+                    //Update the progress after each section so that the number of found blocks increases as we search
+                    found.addAndGet(count);
                 }
-                acceptedItems.put(info, accepted);
             }
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
+        }
+
+        /**
+         * Keeps the blocks that were found by the previous search and are still there and accepted by the current filters.
+         */
+        private void revalidate(ChunkAccess chunk, LevelChunkSection[] sections) {
+            BlockPos minerPos = tile.getBlockPos();
+            BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+            int layerSize = diameter * diameter;
+            for (int index = previousToMine.nextSetBit(0); index >= 0; index = previousToMine.nextSetBit(index + 1)) {
+                int worldX = start.getX() + index % diameter;
+                int worldY = start.getY() + index / layerSize;
+                int worldZ = start.getZ() + (index / diameter) % diameter;
+                BlockState state = sections[chunk.getSectionIndex(worldY)].getBlockState(worldX & 15, worldY & 15, worldZ & 15);
+                if (isCandidate(state) && isMineablePosition(minerPos, testPos.set(worldX, worldY, worldZ), state)) {
+                    toMine.set(index);
+                }
             }
+            found.addAndGet(toMine.cardinality());
         }
 
-        state = State.FINISHED;
-        chunkCache = null;
-        if (interrupted()) {
-            return;//no point checking as we got cancelled
+        /**
+         * Checks the parts of whether we want to mine a block that depend on its position, for blocks whose state is already known to be a candidate.
+         */
+        private boolean isMineablePosition(BlockPos minerPos, BlockPos pos, BlockState state) {
+            if (minerPos.equals(pos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, pos) != null) {
+                //Skip the miner itself, and also skip any bounding blocks
+                return false;
+            }
+            //Skip unbreakable blocks
+            return state.getDestroySpeed(chunkCache, pos) >= 0;
         }
-        if (tile.searcher == this) {
-            //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+
+        /**
+         * Checks the parts of whether we want to mine a block that only depend on the state, so that they can be checked against the palette of a section.
+         */
+        private boolean isCandidate(BlockState state) {
+            return candidateStates.computeIfAbsent(state, s -> isMineableState(s) && isAccepted(s, acceptedItems));
+        }
+
+        /**
+         * Checks if the state is a candidate that the previous search didn't look for, either because the filters didn't accept it or because it wasn't seen.
+         */
+        private boolean isNewCandidate(BlockState state) {
+            return isCandidate(state) && !previous.getAcceptedBlocks().getBoolean(state.getBlock());
         }
     }
 
+    /**
+     * Checks the parts of whether the miner should mine a block that only depend on the state and not on the miner's filters.
+     */
+    public static boolean isMineableState(BlockState state) {
+        //Skip air, blacklisted blocks, special cased block states, and liquids
+        return !state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST) && !shouldSkipState(state) && !MekanismUtils.isLiquidBlock(state.getBlock());
+    }
+
     /**
      * Special cased vanilla blocks that only have one state actually have the drop and the other one just causes it to break. This includes things like two tall flowers,
      * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
      * collecting any drops that happen from breaking the block.
      */
-    private boolean shouldSkipState(BlockState state) {
+    private static boolean shouldSkipState(BlockState state) {
         if (state.getBlock() instanceof BedBlock) {
             return state.getValue(BlockStateProperties.BED_PART) == BedPart.FOOT;
         } else if (state.getBlock() instanceof DoorBlock || state.getBlock() instanceof DoublePlantBlock) {
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.MekanismAPI;
@@ -21,12 +20,12 @@ import mekanism.common.content.network.distribution.ChemicalTransmitterSaveTarge
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.PressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.neoforged.neoforge.common.NeoForge;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -39,6 +38,12 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
     private final List<IChemicalTank> chemicalTanks;
     public Chemical lastChemical = MekanismAPI.EMPTY_CHEMICAL;
     private long prevTransferAmount;
+    /**
+     * Target whose inserts were planned while updating off the server thread, and still have to be applied.
+     */
+    @Nullable
+    private ChemicalHandlerTarget deferredEmit;
+    private long deferredEmitNanos;
 
     public ChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -165,35 +170,54 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
         IRadiationManager.INSTANCE.dumpRadiation(triggerTransmitter.getTileGlobalPos(), stack);
     }
 
-    private long tickEmit(@NotNull ChemicalStack stack) {
-        Collection<Map<Direction, IChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget target = null;
-        for (Map<Direction, IChemicalHandler> acceptors : acceptorValues) {
-            for (IChemicalHandler handler : acceptors.values()) {
-                if (ChemicalUtil.canInsert(handler, stack)) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new ChemicalHandlerTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(handler);
-                }
-            }
+    private void tickEmit(@NotNull ChemicalStack stack) {
+        long emitStart = System.nanoTime();
+        ChemicalHandlerTarget target = acceptorCache.getDistributionTarget(stack.getChemical(), handler -> ChemicalUtil.canInsert(handler, stack), ChemicalHandlerTarget::new);
+        if (target != null && TransmitterNetworkRegistry.isUpdatingOffThread()) {
+            //Work out how to split the chemical now, but only give it to the acceptors once we are back on the server thread
+            target.deferInserts();
+            EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+            deferredEmit = target;
+            deferredEmitNanos = System.nanoTime() - emitStart;
+        } else {
+            finishEmit(EmitUtils.sendToAcceptors(target, stack.getAmount(), stack), System.nanoTime() - emitStart);
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+    }
+
+    private void finishEmit(long sent, long emitNanos) {
+        prevTransferAmount = sent;
+        metrics.recordEmit(emitNanos, sent);
+        MekanismUtils.logMismatchedStackSize(chemicalTank.shrinkStack(sent, Action.EXECUTE), sent);
+    }
+
+    @Override
+    public void applyDeferredUpdate() {
+        super.applyDeferredUpdate();
+        if (deferredEmit != null) {
+            long applyStart = System.nanoTime();
+            long sent = deferredEmit.applyDeferred();
+            deferredEmit = null;
+            finishEmit(sent, deferredEmitNanos + System.nanoTime() - applyStart);
+        }
+    }
+
+    @Override
+    public boolean canUpdateInParallel() {
+        return true;
     }
 
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            NeoForge.EVENT_BUS.post(new ChemicalTransferEvent(this, lastChemical));
+            TransmitterNetworkRegistry.postNetworkEvent(new ChemicalTransferEvent(this, lastChemical));
             needsUpdate = false;
         }
         if (chemicalTank.isEmpty()) {
             prevTransferAmount = 0;
+            metrics.recordEmit(0, 0);
         } else {
-            prevTransferAmount = tickEmit(chemicalTank.getStack());
-            MekanismUtils.logMismatchedStackSize(chemicalTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
+            tickEmit(chemicalTank.getStack());
         }
     }
 
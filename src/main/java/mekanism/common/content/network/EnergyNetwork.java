@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
@@ -18,11 +17,11 @@ import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.neoforged.neoforge.common.NeoForge;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,6 +33,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
     private long prevTransferAmount = 0L;
+    /**
+     * Target whose inserts were planned while updating off the server thread, and still have to be applied.
+     */
+    @Nullable
+    private EnergyAcceptorTarget deferredEmit;
+    private long deferredEmitNanos;
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -106,21 +111,35 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         }
     }
 
-    private long tickEmit(long energyToSend) {
-        Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = null;
-        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
-            for (IStrictEnergyHandler acceptor : acceptors.values()) {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(acceptor);
-                }
-            }
+    private void tickEmit(long energyToSend) {
+        long emitStart = System.nanoTime();
+        EnergyAcceptorTarget target = acceptorCache.getDistributionTarget(null, acceptor -> acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend, EnergyAcceptorTarget::new);
+        if (target != null && TransmitterNetworkRegistry.isUpdatingOffThread()) {
+            //Work out how to split the energy now, but only give it to the acceptors once we are back on the server thread
+            target.deferInserts();
+            EmitUtils.sendToAcceptors(target, energyToSend, ENERGY);
+            deferredEmit = target;
+            deferredEmitNanos = System.nanoTime() - emitStart;
+        } else {
+            finishEmit(EmitUtils.sendToAcceptors(target, energyToSend, ENERGY), System.nanoTime() - emitStart);
+        }
+    }
+
+    private void finishEmit(long sent, long emitNanos) {
+        prevTransferAmount = sent;
+        metrics.recordEmit(emitNanos, sent);
+        energyContainer.extract(sent, Action.EXECUTE, AutomationType.INTERNAL);
+    }
+
+    @Override
+    public void applyDeferredUpdate() {
+        super.applyDeferredUpdate();
+        if (deferredEmit != null) {
+            long applyStart = System.nanoTime();
+            long sent = deferredEmit.applyDeferred();
+            deferredEmit = null;
+            finishEmit(sent, deferredEmitNanos + System.nanoTime() - applyStart);
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend, ENERGY);
     }
 
     @Override
@@ -128,18 +147,23 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         return "[EnergyNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
     }
 
+    @Override
+    public boolean canUpdateInParallel() {
+        return true;
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            NeoForge.EVENT_BUS.post(new EnergyTransferEvent(this));
+            TransmitterNetworkRegistry.postNetworkEvent(new EnergyTransferEvent(this));
             needsUpdate = false;
         }
         if (energyContainer.isEmpty()) {
             prevTransferAmount = 0L;
+            metrics.recordEmit(0, 0);
         } else {
-            prevTransferAmount = tickEmit(energyContainer.getEnergy());
-            energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
+            tickEmit(energyContainer.getEnergy());
         }
     }
 
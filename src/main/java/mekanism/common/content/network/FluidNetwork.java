@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
@@ -17,12 +16,12 @@ import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
-import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
@@ -36,6 +35,12 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    /**
+     * Target whose inserts were planned while updating off the server thread, and still have to be applied.
+     */
+    @Nullable
+    private FluidHandlerTarget deferredEmit;
+    private long deferredEmitNanos;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -149,35 +154,54 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         }
     }
 
-    private int tickEmit(@NotNull FluidStack fluidToSend) {
-        Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = null;
-        for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
-            for (IFluidHandler acceptor : acceptors.values()) {
-                if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new FluidHandlerTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(acceptor);
-                }
-            }
+    private void tickEmit(@NotNull FluidStack fluidToSend) {
+        long emitStart = System.nanoTime();
+        FluidHandlerTarget target = acceptorCache.getDistributionTarget(fluidToSend.getFluid(), acceptor -> FluidUtils.canFill(acceptor, fluidToSend), FluidHandlerTarget::new);
+        if (target != null && TransmitterNetworkRegistry.isUpdatingOffThread()) {
+            //Work out how to split the fluid now, but only give it to the acceptors once we are back on the server thread
+            target.deferInserts();
+            EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+            deferredEmit = target;
+            deferredEmitNanos = System.nanoTime() - emitStart;
+        } else {
+            finishEmit(EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend), System.nanoTime() - emitStart);
+        }
+    }
+
+    private void finishEmit(int sent, long emitNanos) {
+        prevTransferAmount = sent;
+        metrics.recordEmit(emitNanos, sent);
+        MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(sent, Action.EXECUTE), sent);
+    }
+
+    @Override
+    public void applyDeferredUpdate() {
+        super.applyDeferredUpdate();
+        if (deferredEmit != null) {
+            long applyStart = System.nanoTime();
+            int sent = MathUtils.clampToInt(deferredEmit.applyDeferred());
+            deferredEmit = null;
+            finishEmit(sent, deferredEmitNanos + System.nanoTime() - applyStart);
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+    }
+
+    @Override
+    public boolean canUpdateInParallel() {
+        return true;
     }
 
     @Override
     public void onUpdate() {
         super.onUpdate();
         if (needsUpdate) {
-            NeoForge.EVENT_BUS.post(new FluidTransferEvent(this, lastFluid));
+            TransmitterNetworkRegistry.postNetworkEvent(new FluidTransferEvent(this, lastFluid));
             needsUpdate = false;
         }
         if (fluidTank.isEmpty()) {
             prevTransferAmount = 0;
+            metrics.recordEmit(0, 0);
         } else {
-            prevTransferAmount = tickEmit(fluidTank.getFluid());
-            MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
+            tickEmit(fluidTank.getFluid());
         }
     }
 
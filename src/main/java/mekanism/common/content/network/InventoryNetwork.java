@@ -1,6 +1,7 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -104,6 +105,27 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         PathfinderCache.onChanged(this);
     }
 
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        // only the paths that end at the changed acceptor may no longer be valid
+        PathfinderCache.onAcceptorChanged(this, transmitter.getBlockPos().relative(side));
+    }
+
+    @Override
+    public void connectionsChanged(LogisticalTransporterBase transmitter) {
+        super.connectionsChanged(transmitter);
+        //Cached paths and routes may go through connections that are no longer there, or be missing shorter ones that are now possible.
+        // As the validation of cached paths only checks that the transporters still exist, drop all of them
+        PathfinderCache.onChanged(this);
+    }
+
+    @Override
+    protected void transmittersRemoved(LongCollection removedPositions) {
+        super.transmittersRemoved(removedPositions);
+        PathfinderCache.onTransmittersRemoved(this, removedPositions);
+    }
+
     @Override
     public void deregister() {
         super.deregister();
@@ -5,6 +5,7 @@ import mekanism.api.providers.IBlockProvider;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.attribute.Attribute;
+import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -47,7 +48,11 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
     @Override
     public InteractionResult onConfigure(Player player, Direction side) {
         setColor(TransporterUtils.increment(getColor()));
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        InventoryNetwork network = getTransmitterNetwork();
+        if (network != null) {
+            //The color change may open up a shorter path through this transporter, so drop all the cached paths
+            PathfinderCache.onChanged(network);
+        }
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.displayClientMessage(MekanismLang.TOGGLE_COLOR.translateColored(EnumColor.GRAY, color == null ? MekanismLang.NONE.translateColored(EnumColor.WHITE) : color.getColoredName()), true);
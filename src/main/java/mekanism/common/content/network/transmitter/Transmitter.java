@@ -553,8 +553,12 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
                 }
             }
 
+            boolean transmittersChanged = possibleTransmitters != currentTransmitterConnections;
             currentTransmitterConnections = possibleTransmitters;
             acceptorCache.currentAcceptorConnections = possibleAcceptors;
+            if (transmittersChanged && hasTransmitterNetwork()) {
+                getTransmitterNetwork().connectionsChanged(getTransmitter());
+            }
             if (newlyEnabledTransmitters != 0) {
                 //If any sides are now valid transmitters that were not before recheck the connection
                 recheckConnections(newlyEnabledTransmitters);
@@ -593,8 +597,12 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
                 }
             }
 
+            byte previousTransmitters = currentTransmitterConnections;
             currentTransmitterConnections = setConnectionBit(currentTransmitterConnections, possibleTransmitter, side);
             acceptorCache.currentAcceptorConnections = setConnectionBit(acceptorCache.currentAcceptorConnections, possibleAcceptor, side);
+            if (previousTransmitters != currentTransmitterConnections && hasTransmitterNetwork()) {
+                getTransmitterNetwork().connectionsChanged(getTransmitter());
+            }
             if (transmitterChanged) {
                 //If this side is now a valid transmitter, and it wasn't before recheck the connection
                 recheckConnection(side);
@@ -5,9 +5,22 @@ import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.AbstractObject2LongMap;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,7 +37,6 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
-import java.util.function.ToLongFunction;
 import mekanism.api.Action;
 import mekanism.api.SerializationConstants;
 import mekanism.api.inventory.IHashedItem;
@@ -35,6 +47,7 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
@@ -46,6 +59,7 @@ import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.lib.security.SecurityFrequency;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
+import mekanism.common.network.to_client.qio.PacketUpdateItemViewer.NewType;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.SharedConstants;
 import net.minecraft.network.codec.ByteBufCodecs;
@@ -103,12 +117,15 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
     private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    // players viewing the items, along with the handles we have assigned to item types for sending them updates
+    private final Map<ServerPlayer, ViewerSession> playersViewingItems = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
+    /** How many ticks we have been collecting changes for without sending them to viewing clients. */
+    private int ticksSinceSync;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -342,42 +359,39 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (items == null || items.isEmpty()) {
             return Object2LongMaps.emptyMap();
         }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStoredByHash(item));
-        }
-        return ret;
+        return new StoredCountView(items);
     }
 
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
         if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            ToLongFunction<HashedItem> storedFunction = this::getStoredByHash;
-            for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, storedFunction);
-                }
+            Set<String> matches = tagWildcardCache.get(wildcard);
+            if (matches.size() == 1) {
+                //If there is only a single matching tag, we can just directly view the items that have that tag
+                return getStacksWithCounts(tagLookupMap.getValues(matches.iterator().next()));
+            }
+            //Note: We collect the items into a set as an item may have multiple tags that all match the wildcard
+            Set<HashedItem> items = new ObjectOpenHashSet<>();
+            for (String match : matches) {
+                items.addAll(tagLookupMap.getValues(match));
             }
-            return ret;
+            return getStacksWithCounts(items);
         }
         return Object2LongMaps.emptyMap();
     }
 
     public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
         if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStoredByHash(item));
-                }
+            Set<String> matches = modIDWildcardCache.get(wildcard);
+            if (matches.size() == 1) {
+                return getStacksWithCounts(modIDLookupMap.get(matches.iterator().next()));
+            }
+            Set<HashedItem> items = new ObjectOpenHashSet<>();
+            for (String match : matches) {
+                //Note: Unlike in getStacksByTagWildcard, each stack only has one modid, so while we may have multiple modids
+                // that match our wildcard, the stacks that correspond to said modids will be unique
+                items.addAll(modIDLookupMap.get(match));
             }
-            return ret;
+            return getStacksWithCounts(items);
         }
         return Object2LongMaps.emptyMap();
     }
@@ -410,7 +424,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
+        //Start a new session as the player's client will not know about any handles from a previous one
+        playersViewingItems.put(player, new ViewerSession());
     }
 
     public void closeItemViewer(ServerPlayer player) {
@@ -480,7 +495,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             //TODO - 1.20.4: Only perform every so often?
             SecurityFrequency security = FrequencyType.SECURITY.getManager(null, SecurityMode.PUBLIC).getFrequency(getOwner());
             if (security != null) {
-                for (ServerPlayer player : new HashSet<>(playersViewingItems)) {
+                for (ServerPlayer player : new HashSet<>(playersViewingItems.keySet())) {
                     if (!ownerMatches(player.getUUID()) && !security.isTrusted(player.getUUID()) && player.containerMenu instanceof QIOItemViewerContainer) {
                         player.closeContainer();
                         closeItemViewer(player);
@@ -489,24 +504,28 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
         }
 
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
+        //Collect changes over the configured number of ticks so that we send fewer update packets when items are constantly being moved
+        if ((!updatedItems.isEmpty() || needsUpdate) && ++ticksSinceSync >= MekanismConfig.general.qioViewerSyncInterval.get()) {
+            ticksSinceSync = 0;
+            //Only calculate the changed types if there are actually players viewing this frequency,
             // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
+            Lazy<List<ChangedType>> lazyChanges = Lazy.of(() -> {
+                List<ChangedType> changes = new ArrayList<>(updatedItems.size());
                 for (UUID uuid : updatedItems) {
                     HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
                     if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
                         QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
+                        changes.add(new ChangedType(uuid, type, data == null ? 0 : data.count));
                     }
                 }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
+                return changes;
             });
-            for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
-                ServerPlayer player = viewingIterator.next();
+            for (Iterator<Entry<ServerPlayer, ViewerSession>> viewingIterator = playersViewingItems.entrySet().iterator(); viewingIterator.hasNext(); ) {
+                Entry<ServerPlayer, ViewerSession> entry = viewingIterator.next();
+                ServerPlayer player = entry.getKey();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
+                    //Note: Each player has their own handles, so we have to create a packet per player
+                    PacketDistributor.sendToPlayer(player, entry.getValue().createUpdate(totalCountCapacity, totalTypeCapacity, lazyChanges.get()));
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
@@ -571,7 +590,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             removeDrive(key, false);
         }
         driveMap.clear();
-        for (ServerPlayer player : playersViewingItems) {
+        for (ServerPlayer player : playersViewingItems.keySet()) {
             Mekanism.packetHandler().killItemViewer(player);
         }
     }
@@ -674,6 +693,46 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         setNeedsUpdate(null);
     }
 
+    private record ChangedType(UUID uuid, HashedItem type, long count) {
+    }
+
+    /**
+     * Keeps track of the handles assigned to item types for a single player viewing the frequency, and the counts that player was last sent, so that once the client
+     * knows about a type we only need to send how much its count changed.
+     */
+    private static class ViewerSession {
+
+        private final Object2IntMap<UUID> handles = new Object2IntOpenHashMap<>();
+        private final Int2LongMap sentCounts = new Int2LongOpenHashMap();
+
+        private ViewerSession() {
+            handles.defaultReturnValue(-1);
+        }
+
+        private PacketUpdateItemViewer createUpdate(long countCapacity, int typeCapacity, List<ChangedType> changes) {
+            List<NewType> newTypes = new ArrayList<>();
+            IntList changedHandles = new IntArrayList(changes.size());
+            LongList deltas = new LongArrayList(changes.size());
+            for (ChangedType change : changes) {
+                int handle = handles.getInt(change.uuid());
+                if (handle == -1) {
+                    //First time this type has changed while being viewed, send the full type and assign it a handle
+                    handle = handles.size();
+                    handles.put(change.uuid(), handle);
+                    sentCounts.put(handle, change.count());
+                    newTypes.add(new NewType(handle, new UUIDAwareHashedItem(change.type(), change.uuid()), change.count()));
+                } else {
+                    long delta = change.count() - sentCounts.put(handle, change.count());
+                    if (delta != 0) {
+                        changedHandles.add(handle);
+                        deltas.add(delta);
+                    }
+                }
+            }
+            return new PacketUpdateItemViewer(countCapacity, typeCapacity, newTypes, changedHandles.toIntArray(), deltas.toLongArray());
+        }
+    }
+
     public class QIOItemTypeData {
 
         private final Set<QIODriveKey> containingDrives = new HashSet<>();
@@ -774,4 +833,58 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return itemType;
         }
     }
+
+    /**
+     * View of how much of each of the given item types is stored, the counts are looked up when accessed rather than being copied.
+     */
+    private class StoredCountView extends AbstractObject2LongMap<HashedItem> {
+
+        private final Set<HashedItem> items;
+
+        private StoredCountView(Set<HashedItem> items) {
+            this.items = items;
+        }
+
+        @Override
+        public long getLong(Object key) {
+            return items.contains(key) ? getStoredByHash((HashedItem) key) : defaultReturnValue();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return items.contains(key);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public ObjectSet<Object2LongMap.Entry<HashedItem>> object2LongEntrySet() {
+            return new AbstractObjectSet<>() {
+                @Override
+                public ObjectIterator<Object2LongMap.Entry<HashedItem>> iterator() {
+                    Iterator<HashedItem> iterator = items.iterator();
+                    return new ObjectIterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Object2LongMap.Entry<HashedItem> next() {
+                            HashedItem item = iterator.next();
+                            return new BasicEntry<>(item, getStoredByHash(item));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return items.size();
+                }
+            };
+        }
+    }
 }
@@ -1,14 +1,24 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import mekanism.api.text.EnumColor;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.RouteMap;
+import mekanism.common.lib.collection.LRU;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
@@ -18,58 +28,300 @@ public class PathfinderCache {
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * Maximum number of paths we keep cached per network before we start evicting the least recently used ones.
+     */
+    private static final int MAX_PATHS_PER_NETWORK = 4_096;
+    /**
+     * Maximum number of route maps (one per starting transporter and stack color) we keep cached per network.
+     */
+    private static final int MAX_ROUTES_PER_NETWORK = 16;
+    /**
+     * Maximum number of transporters that the cached route maps of a network may have routes to combined, as each route map can have an entry for every transporter in
+     * the network.
+     */
+    private static final int MAX_ROUTE_NODES_PER_NETWORK = 32_768;
 
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
+
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+
+    /**
+     * Drops all cached paths for the given networks. This should be used when the network as a whole is no longer valid, such as when it gets deregistered.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
             cachedPaths.remove(network.getUUID());
         }
     }
 
+    /**
+     * Invalidates any cached paths in the given network that pass through any of the removed transmitter positions.
+     *
+     * @param network          Network the transmitters were part of.
+     * @param removedPositions Positions of the transmitters that were removed.
+     *
+     * @implNote Transmitters being added or changing what they connect to may create shorter paths that don't go through any of the changed positions, so in those
+     * cases {@link #onChanged(InventoryNetwork...)} should be used instead.
+     */
+    public static void onTransmittersRemoved(InventoryNetwork network, LongCollection removedPositions) {
+        NetworkPaths paths = cachedPaths.get(network.getUUID());
+        if (paths != null && !removedPositions.isEmpty()) {
+            //Any change to the transmitters may change the shortest routes, so clear the route maps
+            paths.clearRoutes();
+            for (LongIterator iterator = removedPositions.iterator(); iterator.hasNext(); ) {
+                paths.invalidateThrough(iterator.nextLong());
+            }
+            if (paths.isEmpty()) {
+                cachedPaths.remove(network.getUUID());
+            }
+        }
+    }
+
+    /**
+     * Invalidates any cached paths in the given network that end at the given acceptor.
+     */
+    public static void onAcceptorChanged(InventoryNetwork network, BlockPos acceptor) {
+        NetworkPaths paths = cachedPaths.get(network.getUUID());
+        if (paths != null) {
+            paths.invalidateEndingAt(acceptor.asLong());
+            if (paths.isEmpty()) {
+                cachedPaths.remove(network.getUUID());
+            }
+        }
+    }
+
     public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
-        CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
+        return addCachedPath(start, destination, pathfinder.getSide(), pathfinder.getPath(), pathfinder.getFinalScore());
+    }
+
+    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Direction side, LongList path, double cost) {
+        CachedPath cachedPath = new CachedPath(path, cost);
+        PathData data = new PathData(start.getBlockPos().asLong(), destination.asLong(), side);
+        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new NetworkPaths()).put(data, cachedPath);
         return cachedPath;
     }
 
+    /**
+     * Gets the shortest routes from the given transporter for the given stack, computing them if they aren't cached or the network changed since they were cached.
+     */
+    public static RouteMap getRoutes(LogisticalTransporterBase start, TransporterStack stack) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        return cachedPaths.computeIfAbsent(network.getUUID(), uuid -> new NetworkPaths())
+              .getRoutes(new RouteKey(start.getWorldPositionLong(), stack.color), key -> RouteMap.compute(network, key.start(), stack));
+    }
+
+    /**
+     * Gets the cheapest cached path to the given destination that is still valid for the given stack. Only lookups that find a valid path count as cache hits.
+     */
     @Nullable
-    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
+    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides, TransporterStack stack) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
+        InventoryNetwork network = start.getTransmitterNetwork();
+        NetworkPaths pathMap = cachedPaths.get(network.getUUID());
         if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
+            long startPos = start.getBlockPos().asLong();
+            long endPos = end.asLong();
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
-                if (test != null) {
-                    if (ret == null || test.cost() < ret.cost()) {
-                        ret = test;
-                    }
+                CachedPath test = pathMap.get(new PathData(startPos, endPos, side));
+                if (test != null && (ret == null || test.cost() < ret.cost()) && TransporterPathfinder.checkPath(network, test.path(), stack)) {
+                    ret = test;
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    /**
+     * @apiNote This does not count towards the cache hit rate, as the returned path has not been validated.
+     */
     @Nullable
     public static CachedPath getSingleCache(LogisticalTransporterBase start, BlockPos end, Direction side) {
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
-            return pathMap.get(new PathData(startPos, end, side));
+        NetworkPaths pathMap = cachedPaths.get(start.getTransmitterNetwork().getUUID());
+        if (pathMap == null) {
+            return null;
         }
-        return null;
+        return pathMap.get(new PathData(start.getBlockPos().asLong(), end.asLong(), side));
+    }
+
+    public static CacheStats getStats() {
+        int size = 0;
+        for (NetworkPaths paths : cachedPaths.values()) {
+            size += paths.size();
+        }
+        return new CacheStats(hits, misses, evictions, size);
     }
 
     public static void reset() {
         cachedPaths.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
     }
 
     public record CachedPath(LongList path, double cost) {
     }
 
-    private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
+    public record CacheStats(long hits, long misses, long evictions, int size) {
+    }
+
+    private record PathData(long startTransporter, long end, Direction endSide) {
+    }
+
+    private record RouteKey(long start, @Nullable EnumColor color) {
+    }
+
+    /**
+     * Bounded LRU of the cached paths for a single network, with a reverse index from positions to the paths that go through them so that only the affected paths
+     * have to be invalidated when part of the network changes.
+     */
+    private static class NetworkPaths {
+
+        private final Map<PathData, CachedPath> paths = new Object2ObjectOpenHashMap<>();
+        private final LRU<PathData> usage = new LRU<>();
+        private final Long2ObjectMap<Set<PathData>> pathsThrough = new Long2ObjectOpenHashMap<>();
+        private final Map<RouteKey, RouteMap> routes = new Object2ObjectOpenHashMap<>();
+        private final LRU<RouteKey> routeUsage = new LRU<>();
+        private int routeNodes;
+
+        private RouteMap getRoutes(RouteKey key, Function<RouteKey, RouteMap> computer) {
+            RouteMap routeMap = routes.get(key);
+            if (routeMap == null) {
+                routeMap = computer.apply(key);
+                if (routeMap.size() > MAX_ROUTE_NODES_PER_NETWORK) {
+                    //Too big to keep around, just use it for this lookup
+                    return routeMap;
+                }
+                routes.put(key, routeMap);
+                routeUsage.add(key);
+                routeNodes += routeMap.size();
+                while (routeUsage.size() > MAX_ROUTES_PER_NETWORK || routeNodes > MAX_ROUTE_NODES_PER_NETWORK) {
+                    RouteKey eldest = routeUsage.pollLast();
+                    if (eldest == null) {
+                        break;
+                    }
+                    RouteMap evicted = routes.remove(eldest);
+                    if (evicted != null) {
+                        routeNodes -= evicted.size();
+                    }
+                }
+            } else {
+                routeUsage.moveUp(key);
+            }
+            return routeMap;
+        }
+
+        private void clearRoutes() {
+            routes.clear();
+            routeUsage.clear();
+            routeNodes = 0;
+        }
+
+        @Nullable
+        private CachedPath get(PathData data) {
+            CachedPath path = paths.get(data);
+            if (path != null) {
+                usage.moveUp(data);
+            }
+            return path;
+        }
+
+        private void put(PathData data, CachedPath path) {
+            CachedPath previous = paths.put(data, path);
+            if (previous == null) {
+                usage.add(data);
+                while (usage.size() > MAX_PATHS_PER_NETWORK) {
+                    PathData eldest = usage.pollLast();
+                    if (eldest == null) {
+                        break;
+                    }
+                    CachedPath evicted = paths.remove(eldest);
+                    if (evicted != null) {
+                        unindex(eldest, evicted.path());
+                    }
+                    evictions++;
+                }
+            } else {
+                usage.moveUp(data);
+                unindex(data, previous.path());
+            }
+            index(data, path.path());
+        }
+
+        private void invalidateThrough(long pos) {
+            Set<PathData> affected = pathsThrough.remove(pos);
+            if (affected != null) {
+                for (PathData data : affected) {
+                    remove(data, pos);
+                }
+            }
+        }
+
+        private void invalidateEndingAt(long pos) {
+            Set<PathData> affected = pathsThrough.get(pos);
+            if (affected != null) {
+                //Copy the paths that end at the position as removing them will modify the set
+                List<PathData> toRemove = new ArrayList<>();
+                for (PathData data : affected) {
+                    if (data.end() == pos) {
+                        toRemove.add(data);
+                    }
+                }
+                for (PathData data : toRemove) {
+                    remove(data, Long.MAX_VALUE);
+                }
+            }
+        }
+
+        /**
+         * @param skipPos Position whose index entry has already been removed by the caller.
+         */
+        private void remove(PathData data, long skipPos) {
+            CachedPath removed = paths.remove(data);
+            if (removed != null) {
+                usage.remove(data);
+                LongList path = removed.path();
+                for (int i = 0, size = path.size(); i < size; i++) {
+                    long node = path.getLong(i);
+                    if (node != skipPos) {
+                        unindex(node, data);
+                    }
+                }
+            }
+        }
+
+        private void index(PathData data, LongList path) {
+            for (int i = 0, size = path.size(); i < size; i++) {
+                pathsThrough.computeIfAbsent(path.getLong(i), pos -> new ObjectOpenHashSet<>()).add(data);
+            }
+        }
+
+        private void unindex(PathData data, LongList path) {
+            for (int i = 0, size = path.size(); i < size; i++) {
+                unindex(path.getLong(i), data);
+            }
+        }
+
+        private void unindex(long node, PathData data) {
+            Set<PathData> through = pathsThrough.get(node);
+            if (through != null && through.remove(data) && through.isEmpty()) {
+                pathsThrough.remove(node);
+            }
+        }
+
+        private boolean isEmpty() {
+            return paths.isEmpty() && routes.isEmpty();
+        }
+
+        private int size() {
+            return paths.size();
+        }
     }
-}
\ No newline at end of file
+}
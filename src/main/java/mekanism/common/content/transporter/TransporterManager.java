@@ -2,6 +2,7 @@ package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -24,21 +25,50 @@ public class TransporterManager {
 
     //todo determine if a custom pos record is better storing the long
     private static final Map<GlobalPos, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Snapshots of the contents of the inventories that insertions have been predicted for this tick, with all the stacks flowing to them already inserted. This lets
+     * routing many stacks to the same inventories in a single tick only have to copy each inventory and replay the stacks flowing to it once.
+     */
+    private static final Map<GlobalPos, Map<Direction, InventorySnapshot>> inventorySnapshots = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        inventorySnapshots.clear();
+    }
+
+    /**
+     * Clears the inventory snapshots, so that the next predictions see any changes that were made to the inventories since they were taken.
+     */
+    public static void clearSnapshots() {
+        inventorySnapshots.clear();
     }
 
     public static void add(Level world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest())), k -> new HashSet<>()).add(stack);
+        GlobalPos pos = GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest()));
+        if (flowingStacks.computeIfAbsent(pos, k -> new HashSet<>()).add(stack)) {
+            Map<Direction, InventorySnapshot> snapshots = inventorySnapshots.get(pos);
+            if (snapshots != null) {
+                //Insert the newly flowing stack into the snapshots of the destination rather than having to take them again
+                for (Map.Entry<Direction, InventorySnapshot> entry : snapshots.entrySet()) {
+                    InventorySnapshot snapshot = entry.getValue();
+                    if (snapshot.canAccept) {
+                        snapshot.canAccept = predictFlowing(entry.getKey(), snapshot.handler, snapshot.inventoryInfo, stack);
+                    }
+                }
+            }
+        }
     }
 
     public static void remove(Level world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType().hasTarget()) {
             GlobalPos pos = GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest()));
             Set<TransporterStack> transporterStacks = flowingStacks.get(pos);
-            if (transporterStacks != null && transporterStacks.remove(stack) && transporterStacks.isEmpty()) {
-                flowingStacks.remove(pos);
+            if (transporterStacks != null && transporterStacks.remove(stack)) {
+                if (transporterStacks.isEmpty()) {
+                    flowingStacks.remove(pos);
+                }
+                //The stack either got inserted into the destination or is no longer going there, so the snapshots of it are no longer accurate
+                inventorySnapshots.remove(pos);
             }
         }
     }
@@ -190,13 +220,13 @@ public class TransporterManager {
      */
     public static TransitResponse getPredictedInsert(GlobalPos position, Direction side, IItemHandler handler, TransitRequest request,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
-        //Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
-        // in-flight stack can't be inserted, then we can fail fast.
-        //Note: that stackSizes for inventoryInfo is updated each time
-        if (!predictFlowing(position, side, handler, inventoryInfo, flowingStacks) || !predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
+        InventorySnapshot snapshot = getSnapshot(position, side, handler);
+        if (!snapshot.canAccept) {
+            return request.getEmptyResponse();
+        }
+        //Copy the snapshot so that the stacks we are simulating below don't affect later predictions
+        InventoryInfo inventoryInfo = snapshot.inventoryInfo.copy();
+        if (!predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
             return request.getEmptyResponse();
         }
 
@@ -205,35 +235,64 @@ public class TransporterManager {
         return getPredictedInsert(inventoryInfo, handler, request);
     }
 
+    /**
+     * Gets the snapshot of the given side of the inventory at the given position for this tick, taking it if it hasn't been taken yet.
+     */
+    private static InventorySnapshot getSnapshot(GlobalPos position, Direction side, IItemHandler handler) {
+        Map<Direction, InventorySnapshot> snapshots = inventorySnapshots.computeIfAbsent(position, pos -> new EnumMap<>(Direction.class));
+        InventorySnapshot snapshot = snapshots.get(side);
+        if (snapshot == null || snapshot.handler != handler) {
+            InventoryInfo inventoryInfo = new InventoryInfo(handler);
+            //Before we see if this item can fit in the destination, we must first check the stacks that are
+            // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
+            // track of the initial size of the inventory and then simulate each in-flight addition. If any
+            // in-flight stack can't be inserted, then we can fail fast.
+            //Note: that stackSizes for inventoryInfo is updated each time
+            snapshot = new InventorySnapshot(handler, inventoryInfo, predictFlowing(position, side, handler, inventoryInfo, flowingStacks));
+            snapshots.put(side, snapshot);
+        }
+        return snapshot;
+    }
+
     private static boolean predictFlowing(GlobalPos position, Direction side, IItemHandler handler, InventoryInfo inventoryInfo,
           Map<GlobalPos, Set<TransporterStack>> flowingStacks) {
         Set<TransporterStack> transporterStacks = flowingStacks.get(position);
         if (transporterStacks != null) {
             for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType().hasTarget()) {
-                    //We start by simulating inserting the stack into the handler, regardless of if we
-                    // are interacting with the same side of the target as the stack's path is taking.
-                    // This is so that in cases where the item handler is shared (chests) or some of
-                    // the slots of the item handler may be shared (our machines with multiple sides
-                    // set to the same side config are "different" because of the side proxies) then
-                    // we want to make sure we try to insert the in-flight stacks anyway so that if
-                    // the slot is the same we fill it.
-                    int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
-                    if (numLeftOver > 0) {
-                        if (numLeftOver == stack.itemStack.getCount()) {
-                            //If none of the stack could be inserted, check if we are attempting to insert it
-                            // into the same side as the side we are predicting that we can insert into.
-                            if (side != stack.getSideOfDest()) {
-                                //If we are not, then assume that the destination does not contain the slot that the in-flight
-                                // stack is en-route to at all, so don't exit early just because of failing to insert it into
-                                // the destination, and instead continue checking and then simulate/check our TransitRequest
-                                continue;
-                            }
-                        }
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return false;
+                if (!predictFlowing(side, handler, inventoryInfo, stack)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code false} if the given in-flight stack failed to be inserted, and there is no room for anything else.
+     */
+    private static boolean predictFlowing(Direction side, IItemHandler handler, InventoryInfo inventoryInfo, TransporterStack stack) {
+        if (stack != null && stack.getPathType().hasTarget()) {
+            //We start by simulating inserting the stack into the handler, regardless of if we
+            // are interacting with the same side of the target as the stack's path is taking.
+            // This is so that in cases where the item handler is shared (chests) or some of
+            // the slots of the item handler may be shared (our machines with multiple sides
+            // set to the same side config are "different" because of the side proxies) then
+            // we want to make sure we try to insert the in-flight stacks anyway so that if
+            // the slot is the same we fill it.
+            int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
+            if (numLeftOver > 0) {
+                if (numLeftOver == stack.itemStack.getCount()) {
+                    //If none of the stack could be inserted, check if we are attempting to insert it
+                    // into the same side as the side we are predicting that we can insert into.
+                    if (side != stack.getSideOfDest()) {
+                        //If we are not, then assume that the destination does not contain the slot that the in-flight
+                        // stack is en-route to at all, so don't exit early just because of failing to insert it into
+                        // the destination, and instead continue checking and then simulate/check our TransitRequest
+                        return true;
                     }
                 }
+                // Failed to successfully insert this in-flight item; there's no room for anyone else
+                return false;
             }
         }
         return true;
@@ -293,6 +352,15 @@ public class TransporterManager {
         private final int[] slotLimits;
         private final int slots;
 
+        private InventoryInfo(InventoryInfo other) {
+            slots = other.slots;
+            inventory = other.inventory.clone();
+            stackSizes = other.stackSizes.clone();
+            //Neither the actual sizes nor the limits of the slots get changed by simulating, so we can share them
+            actualStackSizes = other.actualStackSizes;
+            slotLimits = other.slotLimits;
+        }
+
         public InventoryInfo(IItemHandler handler) {
             slots = handler.getSlots();
             inventory = new ItemStack[slots];
@@ -315,5 +383,28 @@ public class TransporterManager {
             }
             return limit;
         }
+
+        public InventoryInfo copy() {
+            return new InventoryInfo(this);
+        }
+    }
+
+    /**
+     * Contents of an inventory as of when it was snapshotted this tick, with all the stacks flowing to it inserted.
+     */
+    private static class InventorySnapshot {
+
+        private final IItemHandler handler;
+        private final InventoryInfo inventoryInfo;
+        /**
+         * {@code false} if one of the stacks flowing to the inventory failed to be inserted, and there is no room for anything else.
+         */
+        private boolean canAccept;
+
+        private InventorySnapshot(IItemHandler handler, InventoryInfo inventoryInfo, boolean canAccept) {
+            this.handler = handler;
+            this.inventoryInfo = inventoryInfo;
+            this.canAccept = canAccept;
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
 import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
@@ -23,6 +24,7 @@ import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.LongMinHeap;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -54,10 +56,22 @@ public final class TransporterPathfinder {
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap, additionalFlowingStacks, start);
         List<Destination> paths = new ArrayList<>();
+        //Lazily initialized the first time we have a destination that we don't have a valid cached path to
+        RouteMap routes = null;
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                BlockPos dest = data.getLocation();
+                CachedPath path = PathfinderCache.getCache(start, dest, data.getSides(), stack);
+                if (path == null) {
+                    if (routes == null) {
+                        routes = PathfinderCache.getRoutes(start, stack);
+                    }
+                    path = routes.findPath(network, start, dest, stack, response.getStack(), chunkMap);
+                }
+                if (path != null) {
+                    paths.add(new Destination(path, response));
+                }
             }
         }
         Collections.sort(paths);
@@ -78,26 +92,6 @@ public final class TransporterPathfinder {
         return true;
     }
 
-    @Nullable
-    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
-          Long2ObjectMap<ChunkAccess> chunkMap) {
-        TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test, response);
-            }
-            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
-                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
-            p.find(chunkMap);
-            if (p.hasPath()) {
-                return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
-            }
-        }
-        return null;
-    }
-
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         return getNewBasePath(start, stack, request, min, Collections.emptyMap());
@@ -360,15 +354,126 @@ public final class TransporterPathfinder {
         }
     }
 
-    public static class Pathfinder {
+    /**
+     * Shortest routes from a single transporter to every transporter it can reach with a stack of a given color. This allows scoring all the possible destinations
+     * with a single search instead of having to search for a path to each destination separately.
+     *
+     * @implNote Routes are only used if they stay within the same distance of the start that {@link Pathfinder} limits its search to, destinations that can only be
+     * reached by routes that go further away than that are looked up using the bounded search instead.
+     */
+    public static class RouteMap {
 
-        private final LongSet openSet = new LongOpenHashSet();
-        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
         private final Long2LongMap navMap = new Long2LongOpenHashMap();
-        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
-        private final Long2DoubleOpenHashMap fScore = new Long2DoubleOpenHashMap();
+
+        private RouteMap() {
+        }
+
+        /**
+         * Runs a single source search over the transporters in the network that the given stack can travel through.
+         */
+        public static RouteMap compute(InventoryNetwork network, long start, TransporterStack stack) {
+            RouteMap routes = new RouteMap();
+            LongMinHeap openSet = new LongMinHeap();
+            openSet.enqueueOrUpdate(start, 0);
+            routes.gScore.put(start, 0D);
+            while (!openSet.isEmpty()) {
+                long currentNode = openSet.dequeue();
+                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
+                double currentScore = routes.gScore.get(currentNode);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    long neighbor = WorldUtils.relativePos(currentNode, direction);
+                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                    if (stack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
+                        double tentativeG = currentScore + neighborTransmitter.getCost();
+                        if (!routes.gScore.containsKey(neighbor) || tentativeG < routes.gScore.get(neighbor)) {
+                            routes.navMap.put(neighbor, currentNode);
+                            routes.gScore.put(neighbor, tentativeG);
+                            openSet.enqueueOrUpdate(neighbor, tentativeG);
+                        }
+                    }
+                }
+            }
+            return routes;
+        }
+
+        /**
+         * Finds the cheapest route to the given destination out of all the sides the destination can be reached from, and adds it to the path cache.
+         *
+         * @return The path, or {@code null} if the destination can't be reached or can't accept the stack.
+         */
+        @Nullable
+        public CachedPath findPath(InventoryNetwork network, LogisticalTransporterBase start, BlockPos dest, TransporterStack stack, ItemStack data,
+              Long2ObjectMap<ChunkAccess> chunkMap) {
+            Level world = start.getLevel();
+            long destLong = dest.asLong();
+            BlockEntity destTile = null;
+            boolean checkedTile = false;
+            Direction bestSide = null;
+            long bestTransporter = Long.MAX_VALUE;
+            double bestScore = Double.MAX_VALUE;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                //Side is the direction from the transporter to the destination
+                long transporterPos = WorldUtils.relativePos(destLong, side.getOpposite());
+                if (!gScore.containsKey(transporterPos)) {
+                    continue;
+                }
+                //Note: The distance between the transporter and the adjacent destination is always one
+                double score = gScore.get(transporterPos) + 1;
+                if (score >= bestScore) {
+                    continue;
+                }
+                LogisticalTransporterBase transporter = network.getTransmitter(transporterPos);
+                if (transporter != null && transporter.canEmitTo(side)) {
+                    if (!checkedTile) {
+                        destTile = WorldUtils.getTileEntity(world, chunkMap, dest);
+                        checkedTile = true;
+                    }
+                    if (TransporterUtils.canInsert(world, dest, destTile, stack.color, data, side, false)) {
+                        bestSide = side;
+                        bestTransporter = transporterPos;
+                        bestScore = score;
+                    }
+                }
+            }
+            if (bestSide == null) {
+                return null;
+            }
+            LongList path = new LongArrayList();
+            path.add(destLong);
+            long startLong = start.getWorldPositionLong();
+            //Same bound as the one used by the pathfinder, so that we don't route items on long detours it wouldn't have taken
+            double maxSearchDistance = Pathfinder.getMaxSearchDistance(startLong, destLong);
+            long node = bestTransporter;
+            do {
+                if (Pathfinder.distanceBetween(startLong, node) > maxSearchDistance) {
+                    //The shortest route strays further away than the pathfinder would search, fall back to the bounded search to see if there is a route that
+                    // stays within the bounds
+                    Pathfinder p = new Pathfinder(network, world, dest, start.getBlockPos(), stack, data,
+                          (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
+                    p.find(chunkMap);
+                    return p.hasPath() ? PathfinderCache.addCachedPath(start, dest, p) : null;
+                }
+                path.add(node);
+                node = navMap.getOrDefault(node, Long.MAX_VALUE);
+            } while (node != Long.MAX_VALUE);
+            return PathfinderCache.addCachedPath(start, dest, bestSide, path, bestScore);
+        }
+
+        /**
+         * @return The number of transporters this route map has routes to.
+         */
+        public int size() {
+            return gScore.size();
+        }
+    }
+
+    public static class Pathfinder {
+
+        private static final ThreadLocal<SearchBuffers> BUFFERS = ThreadLocal.withInitial(SearchBuffers::new);
+
         private final InventoryNetwork network;
-        private final BlockPos start;
+        private final long startLong;
         private final BlockPos finalNode;
         private final long finalNodeLong;
         private final TransporterStack transportStack;
@@ -385,28 +490,39 @@ public final class TransporterPathfinder {
             this.world = world;
             this.finalNode = finalNode;
             this.finalNodeLong = finalNode.asLong();
-            this.start = start;
+            this.startLong = start.asLong();
             transportStack = stack;
             this.data = data;
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start.asLong());
-            gScore.put(start.asLong(), 0D);
-            //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
-            double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start.asLong(), totalDistance);
+            SearchBuffers buffers = SearchBuffers.acquire();
+            try {
+                return find(buffers, chunkMap);
+            } finally {
+                buffers.release();
+            }
+        }
+
+        private boolean find(SearchBuffers buffers, Long2ObjectMap<ChunkAccess> chunkMap) {
+            LongMinHeap openSet = buffers.openSet;
+            LongSet closedSet = buffers.closedSet;
+            Long2LongMap navMap = buffers.navMap;
+            Long2DoubleMap gScore = buffers.gScore;
+            //Note: The priority is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
+            double totalDistance = distanceBetween(startLong, finalNodeLong);
+            openSet.enqueueOrUpdate(startLong, totalDistance);
+            gScore.put(startLong, 0D);
             boolean hasValidDirection = false;
-            LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
-            BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+            LogisticalTransporterBase startTransmitter = network.getTransmitter(startLong);
             for (Direction direction : EnumUtils.DIRECTIONS) {
-                neighbor.setWithOffset(start, direction);
+                long neighbor = WorldUtils.relativePos(startLong, direction);
                 LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
                 if (transportStack.canInsertToTransporter(neighborTransmitter, direction, startTransmitter)) {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
+                } else if (isValidDestination(buffers, startLong, startTransmitter, direction, neighbor, chunkMap)) {
                     //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -416,50 +532,34 @@ public final class TransporterPathfinder {
                 //If there is no valid direction that the stack can go just exit
                 return false;
             }
-            //If the blocks are very close together, allow for path finding up to four blocks away
-            double maxSearchDistance = Math.max(2 * totalDistance, 4);
+            double maxSearchDistance = getMaxSearchDistance(startLong, finalNodeLong);
             while (!openSet.isEmpty()) {
-                long currentNodeLong = Long.MAX_VALUE;
-                double lowestFScore = 0;
-                for (long node : openSet) {
-                    if (currentNodeLong == Long.MAX_VALUE || fScore.get(node) < lowestFScore) {
-                        currentNodeLong = node;
-                        lowestFScore = fScore.get(node);
-                    }
-                }
-                if (currentNodeLong == Long.MAX_VALUE) {
-                    //If we have no current node, then exit
-                    break;
-                }
-                BlockPos currentNode = BlockPos.of(currentNodeLong);
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNodeLong);
-                closedSet.add(currentNodeLong);
-                if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
+                //Remove the node with the lowest fScore from unchecked and add it to checked
+                long currentNode = openSet.dequeue();
+                closedSet.add(currentNode);
+                if (distanceBetween(startLong, currentNode) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
                 LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
-                double currentScore = gScore.get(currentNodeLong);
+                double currentScore = gScore.get(currentNode);
                 for (Direction direction : EnumUtils.DIRECTIONS) {
-                    neighbor.setWithOffset(currentNode, direction);
-                    long neighborLong = neighbor.asLong();
+                    long neighbor = WorldUtils.relativePos(currentNode, direction);
                     LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
                     if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
                         //If the neighbor is a transporter and the stack is valid for it
                         double tentativeG = currentScore + neighborTransmitter.getCost();
-                        if (closedSet.contains(neighborLong) && tentativeG >= gScore.get(neighborLong)) {
+                        if (closedSet.contains(neighbor) && tentativeG >= gScore.get(neighbor)) {
                             continue;
                         }
-                        if (!openSet.contains(neighborLong) || tentativeG < gScore.get(neighborLong)) {
-                            navMap.put(neighborLong, currentNodeLong);
-                            gScore.put(neighborLong, tentativeG);
-                            //Put the gScore plus estimate in the final score
-                            fScore.put(neighborLong, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
-                            openSet.add(neighborLong);
+                        if (!openSet.contains(neighbor) || tentativeG < gScore.get(neighbor)) {
+                            navMap.put(neighbor, currentNode);
+                            gScore.put(neighbor, tentativeG);
+                            //Queue the neighbor with the gScore plus estimate as its final score
+                            openSet.enqueueOrUpdate(neighbor, tentativeG + distanceBetween(neighbor, finalNodeLong));
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
+                    } else if (isValidDestination(buffers, currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
                         //Else if the neighbor is the destination, and we can send to it
                         return true;
                     }
@@ -473,20 +573,20 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
+        private boolean isValidDestination(SearchBuffers buffers, long start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, long neighbor,
               Long2ObjectMap<ChunkAccess> chunkMap) {
             //Check to make sure that it is the destination
-            if (startTransporter != null && neighbor.equals(finalNode)) {
-                BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
-                if (destChecker.isValid(world, neighbor, neighborTile, transportStack, data, direction)) {
+            if (startTransporter != null && neighbor == finalNodeLong) {
+                BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, finalNode);
+                if (destChecker.isValid(world, finalNode, neighborTile, transportStack, data, direction)) {
                     if (startTransporter.canEmitTo(direction) || (finalNodeLong == transportStack.homeLocation && startTransporter.canConnect(direction))) {
                         //If it is, and we can emit to it (normal or push mode),
                         // or it is the home location of the stack (it is returning due to not having been able to get to its destination) and
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start.asLong());
-                        finalScore = gScore.get(start.asLong()) + WorldUtils.distanceBetween(start, finalNode);
+                        results = reconstructPath(buffers.navMap, start);
+                        finalScore = buffers.gScore.get(start) + distanceBetween(start, finalNodeLong);
                         return true;
                     }
                 }
@@ -494,6 +594,24 @@ public final class TransporterPathfinder {
             return false;
         }
 
+        /**
+         * @return How far away from the start transporters may be for them to be considered when searching for a path between the given positions.
+         */
+        private static double getMaxSearchDistance(long start, long end) {
+            //If the blocks are very close together, allow for path finding up to four blocks away
+            return Math.max(2 * distanceBetween(start, end), 4);
+        }
+
+        /**
+         * Equivalent to {@link WorldUtils#distanceBetween(BlockPos, BlockPos)} but for packed positions, so that we don't have to unpack them into block positions.
+         */
+        private static double distanceBetween(long start, long end) {
+            double dx = BlockPos.getX(start) - BlockPos.getX(end);
+            double dy = BlockPos.getY(start) - BlockPos.getY(end);
+            double dz = BlockPos.getZ(start) - BlockPos.getZ(end);
+            return Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+
         private LongList reconstructPath(Long2LongMap navMap, long nextNode) {
             LongList path = new LongArrayList();
             do {
@@ -527,6 +645,37 @@ public final class TransporterPathfinder {
 
             boolean isValid(Level level, BlockPos pos, @Nullable BlockEntity tile, TransporterStack stack, ItemStack data, Direction side);
         }
+
+        /**
+         * Scratch collections used while searching for a path. These are reused between searches on the same thread so that routing does not have to allocate new
+         * sets and maps for every search.
+         */
+        private static class SearchBuffers {
+
+            private final LongMinHeap openSet = new LongMinHeap();
+            private final LongSet closedSet = new LongOpenHashSet();
+            private final Long2LongMap navMap = new Long2LongOpenHashMap();
+            private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+            private boolean inUse;
+
+            private static SearchBuffers acquire() {
+                SearchBuffers buffers = BUFFERS.get();
+                if (buffers.inUse) {
+                    //Shouldn't happen, but if a search ends up being started while another one is running on the same thread, don't share the buffers
+                    buffers = new SearchBuffers();
+                }
+                buffers.inUse = true;
+                return buffers;
+            }
+
+            private void release() {
+                openSet.clear();
+                closedSet.clear();
+                navMap.clear();
+                gScore.clear();
+                inUse = false;
+            }
+        }
     }
 
 }
\ No newline at end of file
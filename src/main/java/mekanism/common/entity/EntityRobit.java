@@ -59,6 +59,7 @@ import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.warning.WarningTracker.WarningType;
 import mekanism.common.item.ItemConfigurator;
 import mekanism.common.item.ItemRobit;
+import mekanism.common.lib.ItemEntitySnapshot;
 import mekanism.common.lib.security.EntitySecurityUtils;
 import mekanism.common.recipe.IMekanismRecipeTypeProvider;
 import mekanism.common.recipe.MekanismRecipeType;
@@ -363,7 +364,7 @@ public class EntityRobit extends PathfinderMob implements IRobit, IMekanismInven
     }
 
     private void collectItems() {
-        List<ItemEntity> items = level().getEntitiesOfClass(ItemEntity.class, getBoundingBox().inflate(1.5, 1.5, 1.5));
+        List<ItemEntity> items = ItemEntitySnapshot.getItems(level(), getBoundingBox().inflate(1.5, 1.5, 1.5), item -> true);
         if (!items.isEmpty()) {
             for (ItemEntity item : items) {
                 if (isItemValid(item)) {
@@ -3,6 +3,7 @@ package mekanism.common.entity.ai;
 import java.util.List;
 import java.util.function.Predicate;
 import mekanism.common.entity.EntityRobit;
+import mekanism.common.lib.ItemEntitySnapshot;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.item.ItemEntity;
@@ -34,7 +35,7 @@ public class RobitAIPickup extends RobitAIBase {
         //Cached for slight performance
         double closestDistance = -1;
         //TODO: Look at and potentially mimic the way piglins search for items to pickup once their AI has mappings
-        List<ItemEntity> items = theRobit.level().getEntitiesOfClass(ItemEntity.class,
+        List<ItemEntity> items = ItemEntitySnapshot.getItems(theRobit.level(),
               new AABB(theRobit.getX() - SEARCH_RADIUS, theRobit.getY() - SEARCH_RADIUS, theRobit.getZ() - SEARCH_RADIUS,
                     theRobit.getX() + SEARCH_RADIUS, theRobit.getY() + SEARCH_RADIUS, theRobit.getZ() + SEARCH_RADIUS), itemPredicate);
         for (ItemEntity entity : items) {
@@ -10,7 +10,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import mekanism.api.Action;
-import mekanism.api.chemical.ChemicalStack;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.slot.ArmorSlot;
 import mekanism.common.inventory.container.slot.HotBarSlot;
@@ -21,23 +20,15 @@ import mekanism.common.inventory.container.slot.MainInventorySlot;
 import mekanism.common.inventory.container.slot.OffhandSlot;
 import mekanism.common.inventory.container.sync.ISyncableData;
 import mekanism.common.inventory.container.sync.ISyncableData.DirtyType;
-import mekanism.common.inventory.container.sync.SyncableBlockPos;
+import mekanism.common.inventory.container.sync.ISyncableDataHolder;
+import mekanism.common.inventory.container.sync.PropertyDeltaTracker;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.container.sync.SyncableByte;
-import mekanism.common.inventory.container.sync.SyncableByteArray;
 import mekanism.common.inventory.container.sync.SyncableDouble;
-import mekanism.common.inventory.container.sync.SyncableEnum;
 import mekanism.common.inventory.container.sync.SyncableFloat;
-import mekanism.common.inventory.container.sync.SyncableFluidStack;
-import mekanism.common.inventory.container.sync.SyncableFrequency;
 import mekanism.common.inventory.container.sync.SyncableInt;
-import mekanism.common.inventory.container.sync.SyncableItemStack;
 import mekanism.common.inventory.container.sync.SyncableLong;
-import mekanism.common.inventory.container.sync.SyncableRegistryEntry;
 import mekanism.common.inventory.container.sync.SyncableShort;
-import mekanism.common.inventory.container.sync.chemical.SyncableChemicalStack;
-import mekanism.common.inventory.container.sync.list.SyncableCollection;
-import mekanism.common.inventory.container.sync.list.SyncableList;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.container.PacketUpdateContainer;
 import mekanism.common.network.to_client.container.property.PropertyData;
@@ -45,7 +36,6 @@ import mekanism.common.network.to_server.PacketWindowSelect;
 import mekanism.common.registration.impl.ContainerTypeRegistryObject;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.RegistryUtils;
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -56,12 +46,11 @@ import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-public abstract class MekanismContainer extends AbstractContainerMenu implements ISecurityContainer {
+public abstract class MekanismContainer extends AbstractContainerMenu implements ISecurityContainer, ISyncableDataHolder {
 
     public static final int BASE_Y_OFFSET = 84;
     public static final int TRANSPORTER_CONFIG_WINDOW = 0;
@@ -76,6 +65,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     protected final List<HotBarSlot> hotBarSlots = new ArrayList<>();
     protected final List<OffhandSlot> offhandSlots = new ArrayList<>();
     private final List<ISyncableData> trackedData = new ArrayList<>();
+    private final PropertyDeltaTracker deltaTracker = new PropertyDeltaTracker();
     private final Map<Object, List<ISyncableData>> specificTrackedData = new Object2ObjectOpenHashMap<>();
     /**
      * Keeps track of which window the player has open. Only used on the client, so doesn't need to keep track of other players.
@@ -524,7 +514,8 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     }
 
     @Nullable
-    private ISyncableData getTrackedData(short property) {
+    @Override
+    public ISyncableData getTrackedData(short property) {
         //In theory the property indexing should always be valid but in case we get something that is out of bounds handle it gracefully
         if (property >= 0 && property < trackedData.size()) {
             return trackedData.get(property);
@@ -534,102 +525,11 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         return null;
     }
 
-    public void handleWindowProperty(short property, boolean value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableBoolean syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, byte value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableByte syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, short value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableShort syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, int value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableInt syncable) {
-            syncable.set(value);
-        } else if (data instanceof SyncableEnum<?> syncable) {
-            syncable.set(value);
-        } else if (data instanceof SyncableFluidStack syncable) {
-            syncable.set(value);
-        } else if (data instanceof SyncableItemStack syncable) {
-            syncable.set(value);
-        } else if (data instanceof SyncableRegistryEntry<?> syncable) {
-            syncable.setFromId(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, long value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableLong syncable) {
-            syncable.set(value);
-        } else if (data instanceof SyncableChemicalStack syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, float value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableFloat syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, double value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableDouble syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, @NotNull ItemStack value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableItemStack syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, @NotNull FluidStack value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableFluidStack syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, @Nullable BlockPos value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableBlockPos syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, @NotNull ChemicalStack value) {
-        ISyncableData data = getTrackedData(property);
-        if (data instanceof SyncableChemicalStack syncable) {
-            syncable.set(value);
-        }
-    }
-
-    public void handleWindowProperty(short property, byte[] value) {
-        ISyncableData data = getTrackedData(property);
-        switch (data) {
-            case SyncableByteArray syncable -> syncable.set(value);
-            case SyncableFrequency<?> syncable -> syncable.set(getLevel().registryAccess(), value);
-            case SyncableList<?> syncable -> syncable.set(getLevel().registryAccess(), value);
-            case SyncableCollection<?, ?> syncable -> syncable.set(getLevel().registryAccess(), value);
-            case null, default -> Mekanism.logger.error("Unknown byte value type: {}, please report", data == null ? null : data.getClass().getName());
-        }
+    /**
+     * Handles a synced property, resolving it against the last value that was synced for it if the server only sent the change in value.
+     */
+    public void handleProperty(PropertyData data) {
+        deltaTracker.decode(data).handleWindowProperty(this);
     }
 
     @Override
@@ -646,7 +546,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
-                    dirtyData.add(data.getPropertyData(registryAccess, i, dirtyType));
+                    dirtyData.add(deltaTracker.encode(data.getPropertyData(registryAccess, i, dirtyType)));
                 }
             }
             if (!dirtyData.isEmpty()) {
@@ -672,7 +572,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
                 data.isDirty();
                 //And then add the property data as if it was dirty regardless of if it was in case the value is the same as the default
                 // as the client may not actually know about it
-                dirtyData.add(data.getPropertyData(registryAccess, propertyIndex.apply(i), DirtyType.DIRTY));
+                dirtyData.add(deltaTracker.encode(data.getPropertyData(registryAccess, propertyIndex.apply(i), DirtyType.DIRTY)));
             }
             if (!dirtyData.isEmpty()) {
                 PacketDistributor.sendToPlayer(player, new PacketUpdateContainer((short) containerId, dirtyData));
@@ -1,6 +1,9 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -36,6 +39,8 @@ import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.qio.BulkQIOData;
+import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
+import mekanism.common.network.to_client.qio.PacketUpdateItemViewer.NewType;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotPlace;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotShiftTake;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotTake;
@@ -78,6 +83,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
+    /**
+     * Client side lookup of the handles the server has assigned to item types for sending updates.
+     */
+    private final Int2ObjectMap<UUIDAwareHashedItem> syncHandles = new Int2ObjectOpenHashMap<>();
 
     private ListSortType sortType;
     private SortDirection sortDirection;
@@ -152,6 +161,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
      */
     public abstract QIOItemViewerContainer recreate();
 
+    /**
+     * Copies the handles the server assigned to item types into a recreated container, as the server doesn't know the container was recreated.
+     *
+     * @apiNote Only used on the client
+     */
+    protected <CONTAINER extends QIOItemViewerContainer> CONTAINER inheritSyncHandles(CONTAINER recreated) {
+        recreated.syncHandles.putAll(syncHandles);
+        return recreated;
+    }
+
     @Override
     protected int getInventoryYOffset() {
         //Use get or default as server side these configs don't exist but the config should be just fine
@@ -400,7 +419,32 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
     }
 
+    /**
+     * Resolves the handles and count deltas of an update into the new counts of the changed types.
+     */
+    public void handleUpdate(PacketUpdateItemViewer update) {
+        Object2LongMap<UUIDAwareHashedItem> itemMap = new Object2LongOpenHashMap<>(update.newTypes().size() + update.handles().length);
+        for (NewType newType : update.newTypes()) {
+            syncHandles.put(newType.handle(), newType.item());
+            itemMap.put(newType.item(), newType.count());
+        }
+        int[] handles = update.handles();
+        long[] deltas = update.deltas();
+        for (int i = 0; i < handles.length; i++) {
+            UUIDAwareHashedItem item = syncHandles.get(handles[i]);
+            if (item == null) {
+                //Should never happen as the server always sends the type before it sends deltas for it
+                Mekanism.logger.warn("Received QIO update for unknown handle: {}", handles[i]);
+                continue;
+            }
+            ItemSlotData slotData = cachedInventory.get(item);
+            itemMap.put(item, (slotData == null ? 0 : slotData.count()) + deltas[i]);
+        }
+        handleUpdate(itemMap, update.countCapacity(), update.typeCapacity());
+    }
+
     public void handleKill() {
+        syncHandles.clear();
         cachedInventory.clear();
         searchList.clear();
         itemList.clear();
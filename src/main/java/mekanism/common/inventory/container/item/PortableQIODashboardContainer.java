@@ -71,8 +71,8 @@ public class PortableQIODashboardContainer extends QIOItemViewerContainer {
 
     @Override
     public PortableQIODashboardContainer recreate() {
-        return new PortableQIODashboardContainer(containerId, inv, hand, stack, true, craftingWindowHolder, cachedInventory, getCountCapacity(), getTypeCapacity(),
-              getTotalItems(), itemList, searchList, getSortType(), getSortDirection(), searchQuery, getSelectedWindow(), freq);
+        return inheritSyncHandles(new PortableQIODashboardContainer(containerId, inv, hand, stack, true, craftingWindowHolder, cachedInventory, getCountCapacity(),
+              getTypeCapacity(), getTotalItems(), itemList, searchList, getSortType(), getSortDirection(), searchQuery, getSelectedWindow(), freq));
     }
 
     @Nullable
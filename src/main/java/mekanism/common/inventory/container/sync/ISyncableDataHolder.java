@@ -0,0 +1,122 @@
+package mekanism.common.inventory.container.sync;
+
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.common.Mekanism;
+import mekanism.common.inventory.container.sync.chemical.SyncableChemicalStack;
+import mekanism.common.inventory.container.sync.list.SyncableCollection;
+import mekanism.common.inventory.container.sync.list.SyncableList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.fluids.FluidStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Something that {@link ISyncableData} is tracked for and synced to by its index, such as a container, or the sync fields of a tile.
+ */
+public interface ISyncableDataHolder {
+
+    @Nullable
+    ISyncableData getTrackedData(short property);
+
+    Level getLevel();
+
+    default void handleWindowProperty(short property, boolean value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableBoolean syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, byte value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableByte syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, short value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableShort syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, int value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableInt syncable) {
+            syncable.set(value);
+        } else if (data instanceof SyncableEnum<?> syncable) {
+            syncable.set(value);
+        } else if (data instanceof SyncableFluidStack syncable) {
+            syncable.set(value);
+        } else if (data instanceof SyncableItemStack syncable) {
+            syncable.set(value);
+        } else if (data instanceof SyncableRegistryEntry<?> syncable) {
+            syncable.setFromId(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, long value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableLong syncable) {
+            syncable.set(value);
+        } else if (data instanceof SyncableChemicalStack syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, float value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableFloat syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, double value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableDouble syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, @NotNull ItemStack value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableItemStack syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, @NotNull FluidStack value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableFluidStack syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, @Nullable BlockPos value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableBlockPos syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, @NotNull ChemicalStack value) {
+        ISyncableData data = getTrackedData(property);
+        if (data instanceof SyncableChemicalStack syncable) {
+            syncable.set(value);
+        }
+    }
+
+    default void handleWindowProperty(short property, byte[] value) {
+        ISyncableData data = getTrackedData(property);
+        switch (data) {
+            case SyncableByteArray syncable -> syncable.set(value);
+            case SyncableFrequency<?> syncable -> syncable.set(getLevel().registryAccess(), value);
+            case SyncableList<?> syncable -> syncable.set(getLevel().registryAccess(), value);
+            case SyncableCollection<?, ?> syncable -> syncable.set(getLevel().registryAccess(), value);
+            case null, default -> Mekanism.logger.error("Unknown byte value type: {}, please report", data == null ? null : data.getClass().getName());
+        }
+    }
+}
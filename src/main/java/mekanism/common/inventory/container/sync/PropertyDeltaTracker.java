@@ -0,0 +1,81 @@
+package mekanism.common.inventory.container.sync;
+
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+import mekanism.common.network.to_client.container.property.IntDeltaPropertyData;
+import mekanism.common.network.to_client.container.property.IntPropertyData;
+import mekanism.common.network.to_client.container.property.LongDeltaPropertyData;
+import mekanism.common.network.to_client.container.property.LongPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyData;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.VarLong;
+
+/**
+ * Keeps track of the last int and long value synced for each property of a container, so that changes can be sent as the difference from the previous value when that
+ * is smaller than sending the value itself. This is mostly the case for large values that only change by a bit each tick, such as stored energy or chemicals.
+ *
+ * @implNote Both sides keep their own tracker, the server one encoding the data as it is sent, and the client one decoding it in the same order it was sent.
+ */
+public class PropertyDeltaTracker {
+
+    private final Short2LongMap lastValues = new Short2LongOpenHashMap();
+
+    /**
+     * Replaces the given data with a delta from the previous value if that would be smaller to send.
+     *
+     * @apiNote Only call on the server.
+     */
+    public PropertyData encode(PropertyData data) {
+        short property = data.getProperty();
+        if (data instanceof LongPropertyData longData) {
+            long value = longData.getValue();
+            if (lastValues.containsKey(property)) {
+                long delta = value - lastValues.put(property, value);
+                if (VarLong.getByteSize((delta << 1) ^ (delta >> 63)) < VarLong.getByteSize(value)) {
+                    return new LongDeltaPropertyData(property, delta);
+                }
+            } else {
+                lastValues.put(property, value);
+            }
+        } else if (data instanceof IntPropertyData intData) {
+            int value = intData.getValue();
+            if (lastValues.containsKey(property)) {
+                int delta = value - (int) lastValues.put(property, value);
+                if (VarInt.getByteSize((delta << 1) ^ (delta >> 31)) < VarInt.getByteSize(value)) {
+                    return new IntDeltaPropertyData(property, delta);
+                }
+            } else {
+                lastValues.put(property, value);
+            }
+        } else {
+            //Other types of data (for example an item stack whose count is usually synced as an int), replace the value the client knows about
+            lastValues.remove(property);
+        }
+        return data;
+    }
+
+    /**
+     * Resolves any deltas in the given data to the value they represent, and keeps track of the last value for each property.
+     *
+     * @apiNote Only call on the client.
+     */
+    public PropertyData decode(PropertyData data) {
+        short property = data.getProperty();
+        switch (data) {
+            case LongDeltaPropertyData delta -> {
+                long value = lastValues.get(property) + delta.getDelta();
+                lastValues.put(property, value);
+                return new LongPropertyData(property, value);
+            }
+            case IntDeltaPropertyData delta -> {
+                int value = (int) lastValues.get(property) + delta.getDelta();
+                lastValues.put(property, value);
+                return new IntPropertyData(property, value);
+            }
+            case LongPropertyData longData -> lastValues.put(property, longData.getValue());
+            case IntPropertyData intData -> lastValues.put(property, intData.getValue());
+            default -> lastValues.remove(property);
+        }
+        return data;
+    }
+}
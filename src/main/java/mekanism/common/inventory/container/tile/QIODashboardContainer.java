@@ -45,8 +45,8 @@ public class QIODashboardContainer extends QIOItemViewerContainer {
 
     @Override
     public QIODashboardContainer recreate() {
-        return new QIODashboardContainer(containerId, inv, tile, true, cachedInventory, getCountCapacity(), getTypeCapacity(), getTotalItems(), itemList,
-              searchList, getSortType(), getSortDirection(), searchQuery, getSelectedWindow());
+        return inheritSyncHandles(new QIODashboardContainer(containerId, inv, tile, true, cachedInventory, getCountCapacity(), getTypeCapacity(), getTotalItems(),
+              itemList, searchList, getSortType(), getSortDirection(), searchQuery, getSelectedWindow()));
     }
 
     @Override
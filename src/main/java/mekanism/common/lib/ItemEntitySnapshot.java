@@ -0,0 +1,131 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * Per tick snapshot of the item entities in each level, indexed by the chunk section they are in. Sections are only looked up from the level the first time something
+ * queries them each tick, so many collectors (such as magnetic attraction units of players standing near each other) that query overlapping areas only have the level
+ * look for the item entities in each section once.
+ *
+ * @implNote Item entities that get added to the level after a section was looked up this tick won't be found until next tick.
+ */
+public class ItemEntitySnapshot {
+
+    /**
+     * How far past the area being queried to look for sections, so that items that moved into a neighboring section since it was looked up this tick are still found.
+     */
+    private static final double SECTION_MARGIN = 1;
+    private static final Map<Level, Long2ObjectMap<List<ItemEntity>>> snapshots = new Reference2ObjectOpenHashMap<>();
+
+    private ItemEntitySnapshot() {
+    }
+
+    /**
+     * Gets the item entities that intersect the given area, equivalent to {@link Level#getEntitiesOfClass(Class, AABB, Predicate)}.
+     */
+    public static List<ItemEntity> getItems(Level level, AABB area, Predicate<? super ItemEntity> predicate) {
+        if (level.isClientSide()) {
+            return level.getEntitiesOfClass(ItemEntity.class, area, predicate);
+        }
+        Long2ObjectMap<List<ItemEntity>> sections = snapshots.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>());
+        int minX = SectionPos.blockToSectionCoord(Mth.floor(area.minX - SECTION_MARGIN));
+        int minY = SectionPos.blockToSectionCoord(Mth.floor(area.minY - SECTION_MARGIN));
+        int minZ = SectionPos.blockToSectionCoord(Mth.floor(area.minZ - SECTION_MARGIN));
+        int maxX = SectionPos.blockToSectionCoord(Mth.floor(area.maxX + SECTION_MARGIN));
+        int maxY = SectionPos.blockToSectionCoord(Mth.floor(area.maxY + SECTION_MARGIN));
+        int maxZ = SectionPos.blockToSectionCoord(Mth.floor(area.maxZ + SECTION_MARGIN));
+        lookupMissingSections(level, sections, minX, minY, minZ, maxX, maxY, maxZ);
+        List<ItemEntity> items = new ArrayList<>();
+        //Only tracked once an item that moved sections is found, as until then every item comes from a single section's list so there can't be any duplicates
+        Set<ItemEntity> added = null;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    long section = SectionPos.asLong(x, y, z);
+                    for (ItemEntity item : sections.get(section)) {
+                        //Validate the item against the current state of the world, as it may have been picked up or moved since the section was looked up
+                        if (item.isAlive() && item.getBoundingBox().intersects(area) && predicate.test(item)) {
+                            if (added == null && SectionPos.asLong(item.blockPosition()) != section) {
+                                //The item moved to another section since this one was looked up, so it may also be in that section's list
+                                added = new ReferenceOpenHashSet<>(items);
+                            }
+                            if (added == null || added.add(item)) {
+                                items.add(item);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Looks up the item entities in any of the given sections that haven't been looked up yet this tick. This is done with a single query of the level for the area
+     * containing all the missing sections, so that a lone collector doesn't have to query the level once per section.
+     */
+    private static void lookupMissingSections(Level level, Long2ObjectMap<List<ItemEntity>> sections, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int missingMinX = Integer.MAX_VALUE, missingMinY = Integer.MAX_VALUE, missingMinZ = Integer.MAX_VALUE;
+        int missingMaxX = Integer.MIN_VALUE, missingMaxY = Integer.MIN_VALUE, missingMaxZ = Integer.MIN_VALUE;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    if (!sections.containsKey(SectionPos.asLong(x, y, z))) {
+                        missingMinX = Math.min(missingMinX, x);
+                        missingMinY = Math.min(missingMinY, y);
+                        missingMinZ = Math.min(missingMinZ, z);
+                        missingMaxX = Math.max(missingMaxX, x);
+                        missingMaxY = Math.max(missingMaxY, y);
+                        missingMaxZ = Math.max(missingMaxZ, z);
+                    }
+                }
+            }
+        }
+        if (missingMinX == Integer.MAX_VALUE) {
+            //Every section has already been looked up this tick
+            return;
+        }
+        AABB bounds = new AABB(SectionPos.sectionToBlockCoord(missingMinX), SectionPos.sectionToBlockCoord(missingMinY), SectionPos.sectionToBlockCoord(missingMinZ),
+              SectionPos.sectionToBlockCoord(missingMaxX + 1), SectionPos.sectionToBlockCoord(missingMaxY + 1), SectionPos.sectionToBlockCoord(missingMaxZ + 1));
+        Long2ObjectMap<List<ItemEntity>> found = new Long2ObjectOpenHashMap<>();
+        for (ItemEntity item : level.getEntitiesOfClass(ItemEntity.class, bounds)) {
+            long section = SectionPos.asLong(item.blockPosition());
+            //Skip items that are in sections that were already looked up (or outside the missing ones), as items on the border of sections would otherwise be in both
+            if (!sections.containsKey(section)) {
+                found.computeIfAbsent(section, s -> new ArrayList<>()).add(item);
+            }
+        }
+        for (int x = missingMinX; x <= missingMaxX; x++) {
+            for (int y = missingMinY; y <= missingMaxY; y++) {
+                for (int z = missingMinZ; z <= missingMaxZ; z++) {
+                    long section = SectionPos.asLong(x, y, z);
+                    if (!sections.containsKey(section)) {
+                        List<ItemEntity> sectionItems = found.get(section);
+                        sections.put(section, sectionItems == null ? Collections.emptyList() : sectionItems);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the snapshots so that next tick's queries see where the items are now.
+     */
+    public static void clear() {
+        snapshots.clear();
+    }
+}
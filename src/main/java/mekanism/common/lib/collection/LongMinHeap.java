@@ -0,0 +1,151 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed binary min heap of primitive long elements ordered by a double priority. Unlike {@link it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue} this keeps track
+ * of where each element is in the heap so that the priority of an element that is already queued can be lowered or raised in place, without any boxing.
+ */
+public class LongMinHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Long2IntOpenHashMap indices = new Long2IntOpenHashMap();
+    private long[] elements;
+    private double[] priorities;
+    private int size;
+
+    public LongMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongMinHeap(int capacity) {
+        capacity = Math.max(1, capacity);
+        elements = new long[capacity];
+        priorities = new double[capacity];
+        indices.defaultReturnValue(-1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long element) {
+        return indices.containsKey(element);
+    }
+
+    /**
+     * Adds the given element to the heap, or updates its priority if it is already present.
+     */
+    public void enqueueOrUpdate(long element, double priority) {
+        int index = indices.get(element);
+        if (index == -1) {
+            if (size == elements.length) {
+                int newCapacity = elements.length << 1;
+                elements = Arrays.copyOf(elements, newCapacity);
+                priorities = Arrays.copyOf(priorities, newCapacity);
+            }
+            index = size++;
+            elements[index] = element;
+            priorities[index] = priority;
+            indices.put(element, index);
+            siftUp(index);
+        } else {
+            double old = priorities[index];
+            priorities[index] = priority;
+            if (priority < old) {
+                siftUp(index);
+            } else if (priority > old) {
+                siftDown(index);
+            }
+        }
+    }
+
+    /**
+     * Gets the element with the lowest priority without removing it.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long first() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return elements[0];
+    }
+
+    /**
+     * Removes and returns the element with the lowest priority.
+     *
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long dequeue() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        long result = elements[0];
+        indices.remove(result);
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all elements, keeping the backing arrays so that the heap can be reused without reallocating.
+     */
+    public void clear() {
+        size = 0;
+        indices.clear();
+    }
+
+    private void siftUp(int index) {
+        long element = elements[index];
+        double priority = priorities[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        set(index, element, priority);
+    }
+
+    private void siftDown(int index) {
+        long element = elements[index];
+        double priority = priorities[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && priorities[right] < priorities[child]) {
+                child = right;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        set(index, element, priority);
+    }
+
+    private void move(int from, int to) {
+        set(to, elements[from], priorities[from]);
+    }
+
+    private void set(int index, long element, double priority) {
+        elements[index] = element;
+        priorities[index] = priority;
+        indices.put(element, index);
+    }
+}
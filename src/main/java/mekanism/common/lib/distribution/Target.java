@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Keeps track of a target for emitting from various networks.
@@ -25,6 +27,13 @@ public abstract class Target<HANDLER, RESOURCE> {
     protected final Collection<HandlerType<HANDLER>> needed;
 
     private int handlerCount = 0;
+    /**
+     * Amounts that handlers were planned to be given while deferring inserts, in the order they were planned, or {@code null} if inserts are performed immediately.
+     */
+    @Nullable
+    private List<HandlerType<HANDLER>> deferred;
+    @Nullable
+    private RESOURCE deferredResource;
 
     protected Target() {
         handlers = new LinkedList<>();
@@ -72,13 +81,13 @@ public abstract class Target<HANDLER, RESOURCE> {
                 //Accept the remaining amount
                 long amountNeeded = needInfo.amount();
                 if (amountNeeded <= remainderAmount) {
-                    acceptAmount(needInfo.handler(), splitInfo, resource, amountNeeded);
+                    accept(needInfo.handler(), splitInfo, resource, amountNeeded);
                     //If the amount we needed was the less than or the same as our remaining amount
                     // we can remove the value as it has now been sent
                     iterator.remove();
                 } else {
                     splitInfo.decrementTargets = false;
-                    acceptAmount(needInfo.handler(), splitInfo, resource, remainderAmount);
+                    accept(needInfo.handler(), splitInfo, resource, remainderAmount);
                     splitInfo.decrementTargets = true;
                 }
             }
@@ -94,12 +103,52 @@ public abstract class Target<HANDLER, RESOURCE> {
                         //We finished, exit
                         return;
                     }
-                    acceptAmount(recipient.handler(), splitInfo, resource, remaining);
+                    accept(recipient.handler(), splitInfo, resource, remaining);
                 }
             }
         }
     }
 
+    /**
+     * Makes this target only simulate inserting into its handlers, and record how much each handler should be given instead of giving it to them. The handlers are
+     * assumed to accept everything they simulated accepting, and the recorded amounts can then be given to them later via {@link #applyDeferred()}.
+     */
+    public void deferInserts() {
+        deferred = new ArrayList<>();
+    }
+
+    /**
+     * Gives the handlers the amounts that were recorded while {@link #deferInserts() deferring inserts}, in the order they were recorded.
+     *
+     * @return The amount that actually got accepted, which may be less than was recorded if the handlers changed since they were simulated.
+     */
+    public long applyDeferred() {
+        if (deferred == null || deferred.isEmpty()) {
+            return 0;
+        }
+        long total = 0;
+        for (HandlerType<HANDLER> insert : deferred) {
+            total += insert.amount();
+        }
+        SplitInfo splitInfo = new LongSplitInfo(total, deferred.size());
+        for (HandlerType<HANDLER> insert : deferred) {
+            acceptAmount(insert.handler(), splitInfo, deferredResource, insert.amount());
+        }
+        deferred = null;
+        deferredResource = null;
+        return splitInfo.getTotalSent();
+    }
+
+    private void accept(HANDLER handler, SplitInfo splitInfo, RESOURCE resource, long amount) {
+        if (deferred == null) {
+            acceptAmount(handler, splitInfo, resource, amount);
+        } else {
+            deferred.add(new HandlerType<>(handler, amount));
+            deferredResource = resource;
+            splitInfo.send(amount);
+        }
+    }
+
     /**
      * Gives the handler on the specified side the given amount.
      *
@@ -147,7 +196,7 @@ public abstract class Target<HANDLER, RESOURCE> {
                     // in split info
                     if (amountNeeded != 0) {
                         //Note: We can skip actually running it if it doesn't need anything
-                        acceptAmount(entry, splitInfo, resource, amountNeeded);
+                        accept(entry, splitInfo, resource, amountNeeded);
                     }
                 } else {
                     needed.add(new HandlerType<>(entry, amountNeeded));
@@ -173,7 +222,7 @@ public abstract class Target<HANDLER, RESOURCE> {
             HandlerType<HANDLER> needInfo = iterator.next();
             long amountNeeded = needInfo.amount();
             if (amountNeeded <= splitInfo.getShareAmount()) {
-                acceptAmount(needInfo.handler(), splitInfo, resource, amountNeeded);
+                accept(needInfo.handler(), splitInfo, resource, amountNeeded);
                 //Remove it as it has now been sent
                 iterator.remove();
                 //Continue checking things in case we happen to be
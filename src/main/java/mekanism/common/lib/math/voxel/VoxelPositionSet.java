@@ -0,0 +1,161 @@
+package mekanism.common.lib.math.voxel;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Set of the positions within a fixed cuboid, stored as a single bit per position in the cuboid rather than as boxed positions in a hash set. This makes checking if a
+ * position is in the set just a bounds check and a bit test, and keeps the memory used by large multiblocks down to a bit per block of their volume.
+ *
+ * @implNote The bounds are copied when the set is created, so later changes to the cuboid it was created from don't affect the set.
+ */
+public class VoxelPositionSet extends AbstractSet<BlockPos> {
+
+    private final int minX, minY, minZ;
+    private final int length, width, height;
+    private final BitSet positions;
+    private int size;
+
+    public VoxelPositionSet(VoxelCuboid bounds) {
+        BlockPos minPos = bounds.getMinPos();
+        minX = minPos.getX();
+        minY = minPos.getY();
+        minZ = minPos.getZ();
+        length = bounds.length();
+        width = bounds.width();
+        height = bounds.height();
+        positions = new BitSet(length * width * height);
+    }
+
+    /**
+     * @return The index of the bit that represents the given position, or {@code -1} if it is outside the bounds of this set.
+     */
+    private int getIndex(int x, int y, int z) {
+        int relativeX = x - minX, relativeY = y - minY, relativeZ = z - minZ;
+        if (relativeX < 0 || relativeX >= length || relativeY < 0 || relativeY >= height || relativeZ < 0 || relativeZ >= width) {
+            return -1;
+        }
+        return (relativeY * width + relativeZ) * length + relativeX;
+    }
+
+    private BlockPos getPos(int index) {
+        int relativeX = index % length;
+        int rest = index / length;
+        return new BlockPos(minX + relativeX, minY + rest / width, minZ + rest % width);
+    }
+
+    public boolean contains(int x, int y, int z) {
+        int index = getIndex(x, y, z);
+        return index != -1 && positions.get(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof BlockPos pos && contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the position is outside the bounds of this set.
+     */
+    @Override
+    public boolean add(BlockPos pos) {
+        int index = getIndex(pos.getX(), pos.getY(), pos.getZ());
+        if (index == -1) {
+            throw new IllegalArgumentException("Position " + pos + " is outside the bounds of the set.");
+        } else if (positions.get(index)) {
+            return false;
+        }
+        positions.set(index);
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof BlockPos pos) {
+            int index = getIndex(pos.getX(), pos.getY(), pos.getZ());
+            if (index != -1 && positions.get(index)) {
+                positions.clear(index);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        positions.clear();
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<BlockPos> iterator() {
+        return new Iterator<>() {
+            private int next = positions.nextSetBit(0);
+            private int last = -1;
+            private int expectedSize = size;
+
+            @Override
+            public boolean hasNext() {
+                return next != -1;
+            }
+
+            @Override
+            public BlockPos next() {
+                if (next == -1) {
+                    throw new NoSuchElementException();
+                } else if (expectedSize != size) {
+                    throw new ConcurrentModificationException();
+                }
+                last = next;
+                next = positions.nextSetBit(next + 1);
+                return getPos(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last == -1) {
+                    throw new IllegalStateException();
+                }
+                positions.clear(last);
+                last = -1;
+                expectedSize = --size;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        //Equivalent to the sum of the hash codes of the positions, but without having to create them
+        int hash = 0;
+        for (int index = positions.nextSetBit(0); index != -1; index = positions.nextSetBit(index + 1)) {
+            int relativeX = index % length;
+            int rest = index / length;
+            hash += ((minY + rest / width) + (minZ + rest % width) * 31) * 31 + minX + relativeX;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof VoxelPositionSet other && minX == other.minX && minY == other.minY && minZ == other.minZ && length == other.length &&
+                   width == other.width && height == other.height) {
+            return positions.equals(other.positions);
+        }
+        return super.equals(o);
+    }
+}
@@ -14,6 +14,7 @@ import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -46,13 +47,21 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         this.structure = structure;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Validates the shell of the cuboid position by position, and then the inside of it one chunk section at a time, skipping any sections that only contain
+     * air. This assumes that every position strictly inside the cuboid is {@link StructureRequirement#INNER} and that air is always a valid inner block.
+     */
     @Override
     public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap) {
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int y = min.getY(); y <= max.getY(); y++) {
-                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                //If we are not on one of the x or y walls, the only positions on the shell are the ones on the z walls
+                int zStep = x == min.getX() || x == max.getX() || y == min.getY() || y == max.getY() ? 1 : Math.max(1, max.getZ() - min.getZ());
+                for (int z = min.getZ(); z <= max.getZ(); z += zStep) {
                     mutablePos.set(x, y, z);
                     FormationResult ret = validateNode(ctx, chunkMap, mutablePos);
                     if (!ret.isFormed()) {
@@ -61,6 +70,38 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
                 }
             }
         }
+        int minX = min.getX() + 1, minY = min.getY() + 1, minZ = min.getZ() + 1;
+        int maxX = max.getX() - 1, maxY = max.getY() - 1, maxZ = max.getZ() - 1;
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++) {
+                int sectionMinX = Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)), sectionMaxX = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15));
+                int sectionMinZ = Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)), sectionMaxZ = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15));
+                mutablePos.set(sectionMinX, minY, sectionMinZ);
+                ChunkAccess chunk = WorldUtils.getChunkForPos(world, chunkMap, mutablePos);
+                if (chunk == null) {
+                    //If the position is not in a loaded chunk, fail
+                    return FormationResult.FAIL;
+                }
+                for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+                    if (chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY)).hasOnlyAir()) {
+                        //Air is always valid inside the structure, so there is nothing to check
+                        continue;
+                    }
+                    int sectionMaxY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+                    for (int y = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY)); y <= sectionMaxY; y++) {
+                        for (int x = sectionMinX; x <= sectionMaxX; x++) {
+                            for (int z = sectionMinZ; z <= sectionMaxZ; z++) {
+                                mutablePos.set(x, y, z);
+                                FormationResult ret = validateNode(ctx, chunkMap, mutablePos);
+                                if (!ret.isFormed()) {
+                                    return ret;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
         return FormationResult.SUCCESS;
     }
 
@@ -84,8 +125,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         } else if (!validateInner(state, chunkMap, pos)) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
         } else if (!state.isAir()) {
-            //Make sure the position is immutable before we store it
-            ctx.internalLocations.add(pos.immutable());
+            ctx.internalLocations.add(pos);
         }
         return FormationResult.SUCCESS;
     }
@@ -129,10 +169,10 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
                 }
             }
         }
-        //Make sure the position is immutable before we store it
-        pos = pos.immutable();
         ctx.locations.add(pos);
         if (type.isValve()) {
+            //Make sure the position is immutable before we store it
+            pos = pos.immutable();
             ValveData data = new ValveData(pos, getSide(pos));
             ctx.valves.add(data);
         }
@@ -15,6 +15,8 @@ import mekanism.api.radiation.IRadiationManager;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.lib.math.voxel.VoxelPositionSet;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
 import mekanism.common.util.EnumUtils;
@@ -40,8 +42,14 @@ public class FormationProtocol<T extends MultiblockData> {
     private final Structure structure;
     private final MultiblockManager<T> manager;
 
-    public final Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    /**
+     * Positions of the casing of the structure, created once the bounds of the structure are known.
+     */
+    public Set<BlockPos> locations = Set.of();
+    /**
+     * Positions of the non-air blocks inside the structure, created once the bounds of the structure are known.
+     */
+    public Set<BlockPos> internalLocations = Set.of();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Map<UUID, MultiblockCache<T>> idsFound = new HashMap<>();
 
@@ -56,6 +64,9 @@ public class FormationProtocol<T extends MultiblockData> {
         if (!structure.setShape(validator.getShape())) {
             return fail(FormationResult.FAIL);
         }
+        VoxelCuboid bounds = structure.getBounds();
+        locations = new VoxelPositionSet(bounds);
+        internalLocations = new VoxelPositionSet(bounds);
 
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         FormationResult result = validator.validate(this, chunkMap);
@@ -0,0 +1,103 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Memoized radiation field, storing the computed radiation level at each block position that has been queried. Entries are bucketed by chunk so that when a source
+ * changes only the chunks that are within the check radius of the source have to be invalidated.
+ */
+@NothingNullByDefault
+class RadiationFieldCache {
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<Long2ObjectMap<LevelAndMaxMagnitude>>> dimensions = new Object2ObjectOpenHashMap<>();
+    /**
+     * The chunk radius the cached values were calculated with, if this doesn't match the radius we are being queried with the cache is stale.
+     */
+    private int cachedRadius = -1;
+
+    @Nullable
+    public LevelAndMaxMagnitude get(GlobalPos pos, int chunkRadius) {
+        if (chunkRadius != cachedRadius) {
+            //Radius changed (or nothing has been cached yet), none of our cached values are valid anymore
+            clear();
+            cachedRadius = chunkRadius;
+            return null;
+        }
+        Long2ObjectMap<Long2ObjectMap<LevelAndMaxMagnitude>> chunks = dimensions.get(pos.dimension());
+        if (chunks != null) {
+            BlockPos blockPos = pos.pos();
+            Long2ObjectMap<LevelAndMaxMagnitude> positions = chunks.get(chunkKey(blockPos));
+            if (positions != null) {
+                return positions.get(blockPos.asLong());
+            }
+        }
+        return null;
+    }
+
+    public void put(GlobalPos pos, LevelAndMaxMagnitude value) {
+        BlockPos blockPos = pos.pos();
+        dimensions.computeIfAbsent(pos.dimension(), dim -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(chunkKey(blockPos), chunk -> new Long2ObjectOpenHashMap<>())
+              .put(blockPos.asLong(), value);
+    }
+
+    /**
+     * Invalidates any cached values that a source at the given position may have contributed to.
+     */
+    public void invalidate(GlobalPos source) {
+        Long2ObjectMap<Long2ObjectMap<LevelAndMaxMagnitude>> chunks = dimensions.get(source.dimension());
+        if (chunks != null) {
+            BlockPos blockPos = source.pos();
+            invalidate(source.dimension(), chunks, SectionPos.blockToSectionCoord(blockPos.getX()), SectionPos.blockToSectionCoord(blockPos.getZ()));
+        }
+    }
+
+    /**
+     * Invalidates any cached values that a source in the given chunk may have contributed to.
+     */
+    public void invalidate(ResourceKey<Level> dimension, ChunkPos chunk) {
+        Long2ObjectMap<Long2ObjectMap<LevelAndMaxMagnitude>> chunks = dimensions.get(dimension);
+        if (chunks != null) {
+            invalidate(dimension, chunks, chunk.x, chunk.z);
+        }
+    }
+
+    private void invalidate(ResourceKey<Level> dimension, Long2ObjectMap<Long2ObjectMap<LevelAndMaxMagnitude>> chunks, int sourceX, int sourceZ) {
+        int diameter = 2 * cachedRadius + 1;
+        if (chunks.size() < diameter * diameter) {
+            chunks.long2ObjectEntrySet().removeIf(entry -> {
+                long chunk = entry.getLongKey();
+                return Math.abs(ChunkPos.getX(chunk) - sourceX) <= cachedRadius && Math.abs(ChunkPos.getZ(chunk) - sourceZ) <= cachedRadius;
+            });
+        } else {
+            for (int x = sourceX - cachedRadius, maxX = sourceX + cachedRadius; x <= maxX; x++) {
+                for (int z = sourceZ - cachedRadius, maxZ = sourceZ + cachedRadius; z <= maxZ; z++) {
+                    chunks.remove(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+        if (chunks.isEmpty()) {
+            dimensions.remove(dimension);
+        }
+    }
+
+    public void clear() {
+        dimensions.clear();
+    }
+
+    private static long chunkKey(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+}
@@ -5,7 +5,6 @@ import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -14,6 +13,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import mekanism.api.Chunk3D;
 import mekanism.api.SerializationConstants;
@@ -119,6 +119,15 @@ public class RadiationManager implements IRadiationManager {
 
     private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    /**
+     * Spatial index of the sources in the {@link #radiationTable}, used for quickly looking up which sources are near a position. It must be kept in sync with the
+     * table whenever sources are added or removed.
+     */
+    private final RadiationSourceIndex radiationIndex = new RadiationSourceIndex();
+    /**
+     * Cached radiation levels at positions that have been queried. Entries are invalidated when a source within range of them is added, removed, or changes magnitude.
+     */
+    private final RadiationFieldCache radiationField = new RadiationFieldCache();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -192,6 +201,8 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            radiationIndex.removeChunk(chunk.dimension, chunk.toLong());
+            radiationField.invalidate(chunk.dimension, chunk);
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -202,6 +213,8 @@ public class RadiationManager implements IRadiationManager {
         Chunk3D chunk = new Chunk3D(pos);
         if (radiationTable.contains(chunk, pos)) {
             radiationTable.remove(chunk, pos);
+            radiationIndex.remove(pos);
+            radiationField.invalidate(pos);
             markDirty();
             updateClientRadiationForAll(pos.dimension());
         }
@@ -226,30 +239,18 @@ public class RadiationManager implements IRadiationManager {
         if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
         int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        LevelAndMaxMagnitude cached = radiationField.get(pos, radius);
+        if (cached != null) {
+            return cached;
+        }
         // we only compute exposure when within the MAX_RANGE bounds
         double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
-        }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        ExposureAccumulator accumulator = new ExposureAccumulator(pos);
+        radiationIndex.forEachInRange(pos, radius, maxRange, accumulator);
+        LevelAndMaxMagnitude levelAndMaxMagnitude = new LevelAndMaxMagnitude(accumulator.level, accumulator.maxMagnitude);
+        radiationField.put(pos, levelAndMaxMagnitude);
+        return levelAndMaxMagnitude;
     }
 
     @Override
@@ -260,10 +261,13 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
         RadiationSource src = radiationSourceMap.get(pos);
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            src = new RadiationSource(pos, magnitude);
+            radiationSourceMap.put(pos, src);
+            radiationIndex.add(src);
         } else {
             src.radiate(magnitude);
         }
+        radiationField.invalidate(pos);
         markDirty();
         //Update radiation levels immediately
         updateClientRadiationForAll(pos.dimension());
@@ -322,6 +326,8 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            radiationIndex.clear();
+            radiationField.clear();
             markDirty();
             updateClientRadiationForAll();
         }
@@ -498,13 +504,14 @@ public class RadiationManager implements IRadiationManager {
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
+            if (!radiationTable.isEmpty()) {
                 //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
                 // near the player if they are walking around while ticks are frozen
                 if (tickingNormally) {
                     // remove if source gets too low
-                    sources.removeIf(RadiationSource::decay);
+                    radiationIndex.removeIf(RadiationSource::decay, source -> radiationTable.remove(new Chunk3D(source.getPos()), source.getPos()));
+                    //All sources changed magnitude, so none of the cached levels are valid anymore
+                    radiationField.clear();
                     //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
                     markDirty();
                 }
@@ -531,6 +538,8 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        radiationIndex.clear();
+        radiationField.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -558,6 +567,23 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    private class ExposureAccumulator implements Consumer<RadiationSource> {
+
+        private final GlobalPos pos;
+        private double level = BASELINE;
+        private double maxMagnitude = BASELINE;
+
+        private ExposureAccumulator(GlobalPos pos) {
+            this.pos = pos;
+        }
+
+        @Override
+        public void accept(RadiationSource source) {
+            level += computeExposure(pos, source);
+            maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
+        }
+    }
+
     public record LevelAndMaxMagnitude(double level, double maxMagnitude) {
 
         private static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
@@ -678,8 +704,13 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    RadiationSource previous = manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    if (previous != null) {
+                        manager.radiationIndex.remove(previous.getPos());
+                    }
+                    manager.radiationIndex.add(source);
                 }
+                manager.radiationField.clear();
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
                     if (meltdowns == null) {
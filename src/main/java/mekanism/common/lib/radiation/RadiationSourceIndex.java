@@ -0,0 +1,188 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Per dimension spatial index of radiation sources, keyed by the packed chunk position of the source. This allows looking up all the sources that may contribute to
+ * the radiation level at a position without having to allocate chunk keys or walk every row of the radiation table.
+ */
+@NothingNullByDefault
+class RadiationSourceIndex {
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<Cell>> dimensions = new Object2ObjectOpenHashMap<>();
+
+    public boolean isEmpty() {
+        return dimensions.isEmpty();
+    }
+
+    public void add(RadiationSource source) {
+        GlobalPos pos = source.getPos();
+        BlockPos blockPos = pos.pos();
+        long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(blockPos.getX()), SectionPos.blockToSectionCoord(blockPos.getZ()));
+        dimensions.computeIfAbsent(pos.dimension(), dim -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(chunk, c -> new Cell())
+              .add(source);
+    }
+
+    public void remove(GlobalPos pos) {
+        Long2ObjectMap<Cell> cells = dimensions.get(pos.dimension());
+        if (cells != null) {
+            BlockPos blockPos = pos.pos();
+            long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(blockPos.getX()), SectionPos.blockToSectionCoord(blockPos.getZ()));
+            Cell cell = cells.get(chunk);
+            if (cell != null && cell.remove(pos)) {
+                removeCell(pos.dimension(), cells, chunk);
+            }
+        }
+    }
+
+    public void removeChunk(ResourceKey<Level> dimension, long chunk) {
+        Long2ObjectMap<Cell> cells = dimensions.get(dimension);
+        if (cells != null && cells.remove(chunk) != null && cells.isEmpty()) {
+            dimensions.remove(dimension);
+        }
+    }
+
+    public void clear() {
+        dimensions.clear();
+    }
+
+    /**
+     * Removes all sources that match the given predicate, for example because they have decayed to the point they are no longer relevant.
+     *
+     * @param shouldRemove Predicate that is evaluated exactly once for each source in the index.
+     * @param onRemove     Called for each source that got removed from the index.
+     */
+    public void removeIf(Predicate<RadiationSource> shouldRemove, Consumer<RadiationSource> onRemove) {
+        for (Iterator<Long2ObjectMap<Cell>> dimIterator = dimensions.values().iterator(); dimIterator.hasNext(); ) {
+            Long2ObjectMap<Cell> cells = dimIterator.next();
+            for (Iterator<Cell> cellIterator = cells.values().iterator(); cellIterator.hasNext(); ) {
+                Cell cell = cellIterator.next();
+                if (cell.removeIf(shouldRemove, onRemove)) {
+                    cellIterator.remove();
+                }
+            }
+            if (cells.isEmpty()) {
+                dimIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Visits all sources that are within the given range of the given position. Only chunk cells that can possibly contain a source within range are looked at.
+     *
+     * @param pos         Position to look around.
+     * @param chunkRadius Radius in chunks of the square of chunks to check.
+     * @param maxRangeSq  Maximum squared distance a source can be from the position.
+     * @param consumer    Consumer to pass any sources that are in range to.
+     */
+    public void forEachInRange(GlobalPos pos, int chunkRadius, double maxRangeSq, Consumer<RadiationSource> consumer) {
+        Long2ObjectMap<Cell> cells = dimensions.get(pos.dimension());
+        if (cells == null) {
+            return;
+        }
+        BlockPos center = pos.pos();
+        int centerX = SectionPos.blockToSectionCoord(center.getX());
+        int centerZ = SectionPos.blockToSectionCoord(center.getZ());
+        int diameter = 2 * chunkRadius + 1;
+        if (cells.size() < diameter * diameter) {
+            //Fewer occupied cells than cells in the area we are checking, just walk the occupied cells
+            for (Long2ObjectMap.Entry<Cell> entry : cells.long2ObjectEntrySet()) {
+                long chunk = entry.getLongKey();
+                int chunkX = ChunkPos.getX(chunk);
+                int chunkZ = ChunkPos.getZ(chunk);
+                if (Math.abs(chunkX - centerX) <= chunkRadius && Math.abs(chunkZ - centerZ) <= chunkRadius && canContribute(center, chunkX, chunkZ, maxRangeSq)) {
+                    entry.getValue().forEachInRange(center, maxRangeSq, consumer);
+                }
+            }
+        } else {
+            for (int chunkX = centerX - chunkRadius, maxX = centerX + chunkRadius; chunkX <= maxX; chunkX++) {
+                for (int chunkZ = centerZ - chunkRadius, maxZ = centerZ + chunkRadius; chunkZ <= maxZ; chunkZ++) {
+                    if (canContribute(center, chunkX, chunkZ, maxRangeSq)) {
+                        Cell cell = cells.get(ChunkPos.asLong(chunkX, chunkZ));
+                        if (cell != null) {
+                            cell.forEachInRange(center, maxRangeSq, consumer);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the closest point of the given chunk column is within range of the given position.
+     */
+    private static boolean canContribute(BlockPos center, int chunkX, int chunkZ, double maxRangeSq) {
+        int minX = SectionPos.sectionToBlockCoord(chunkX);
+        int minZ = SectionPos.sectionToBlockCoord(chunkZ);
+        long dx = Math.max(0, Math.max(minX - center.getX(), center.getX() - (minX + 15)));
+        long dz = Math.max(0, Math.max(minZ - center.getZ(), center.getZ() - (minZ + 15)));
+        return dx * dx + dz * dz <= maxRangeSq;
+    }
+
+    private void removeCell(ResourceKey<Level> dimension, Long2ObjectMap<Cell> cells, long chunk) {
+        cells.remove(chunk);
+        if (cells.isEmpty()) {
+            dimensions.remove(dimension);
+        }
+    }
+
+    private static class Cell {
+
+        private final List<RadiationSource> sources = new ArrayList<>(1);
+
+        private void add(RadiationSource source) {
+            sources.add(source);
+        }
+
+        /**
+         * @return {@code true} if the cell is now empty.
+         */
+        private boolean remove(GlobalPos pos) {
+            for (int i = 0, size = sources.size(); i < size; i++) {
+                if (sources.get(i).getPos().equals(pos)) {
+                    sources.remove(i);
+                    break;
+                }
+            }
+            return sources.isEmpty();
+        }
+
+        /**
+         * @return {@code true} if the cell is now empty.
+         */
+        private boolean removeIf(Predicate<RadiationSource> shouldRemove, Consumer<RadiationSource> onRemove) {
+            for (Iterator<RadiationSource> iterator = sources.iterator(); iterator.hasNext(); ) {
+                RadiationSource source = iterator.next();
+                if (shouldRemove.test(source)) {
+                    iterator.remove();
+                    onRemove.accept(source);
+                }
+            }
+            return sources.isEmpty();
+        }
+
+        private void forEachInRange(BlockPos center, double maxRangeSq, Consumer<RadiationSource> consumer) {
+            for (RadiationSource source : sources) {
+                if (source.getPos().pos().distSqr(center) <= maxRangeSq) {
+                    consumer.accept(source);
+                }
+            }
+        }
+    }
+}
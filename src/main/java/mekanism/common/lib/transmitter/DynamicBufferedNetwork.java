@@ -1,5 +1,6 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
@@ -11,6 +12,7 @@ import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.lib.math.Range3D;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.ChunkPos;
 import net.neoforged.bus.api.Event;
 import org.jetbrains.annotations.NotNull;
@@ -94,6 +96,20 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void transmittersRemoved(LongCollection removedPositions) {
+        super.transmittersRemoved(removedPositions);
+        chunks.clear();
+        for (LongIterator iterator = positionedTransmitters.keySet().iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            chunks.add(ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos))));
+        }
+        updateCapacity();
+        clampBuffer();
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     @Override
     public void deregister() {
         super.deregister();
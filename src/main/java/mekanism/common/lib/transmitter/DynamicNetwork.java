@@ -2,6 +2,11 @@ package mekanism.common.lib.transmitter;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -12,10 +17,13 @@ import mekanism.api.text.IHasTextComponent;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
+import net.neoforged.bus.api.Event;
 import net.neoforged.fml.util.thread.EffectiveSide;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -26,6 +34,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected final Long2ObjectMap<TRANSMITTER> positionedTransmitters = new Long2ObjectOpenHashMap<>();
     protected final Set<TRANSMITTER> transmittersToAdd = new ObjectOpenHashSet<>();
     protected final NetworkAcceptorCache<ACCEPTOR> acceptorCache = new NetworkAcceptorCache<>();
+    protected final NetworkMetrics metrics = new NetworkMetrics();
     @Nullable
     protected Level world;
     private final UUID uuid;
@@ -74,6 +83,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
         acceptorCache.commit();
         transmitterValidator = null;
+        metrics.recordCommit();
     }
 
     @Nullable
@@ -131,6 +141,104 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         deregister();
     }
 
+    /**
+     * Updates the network after the given transmitters were removed or had their connections changed. Instead of breaking the whole network up into orphans and
+     * rebuilding it, this only checks around the changed transmitters to see if the network was split, and only the parts that were cut off from the rest of the network
+     * are turned into orphans to find their new network.
+     *
+     * @param changedTransmitters Transmitters in this network that were removed or had their connections changed.
+     *
+     * @return {@code true} if the network was split or had to be broken up entirely.
+     */
+    public boolean invalidateLocally(Collection<TRANSMITTER> changedTransmitters) {
+        TRANSMITTER triggerTransmitter = null;
+        for (TRANSMITTER transmitter : changedTransmitters) {
+            if (triggerTransmitter == null || !transmitter.isValid()) {
+                triggerTransmitter = transmitter;
+                if (!transmitter.isValid()) {
+                    break;
+                }
+            }
+        }
+        if (isRemote() || !transmittersToAdd.isEmpty() || transmittersSize() <= changedTransmitters.size() || connectsToOtherNetwork(changedTransmitters)) {
+            //Fall back to rebuilding the network from scratch if it is small enough that nothing would be gained, if it has transmitters that haven't been
+            // added yet, or if one of the changed transmitters now connects to another network, so that the orphans can handle merging them
+            invalidate(triggerTransmitter);
+            return true;
+        }
+        LongList removedPositions = new LongArrayList();
+        List<TRANSMITTER> seeds = new ArrayList<>();
+        for (TRANSMITTER transmitter : changedTransmitters) {
+            long pos = transmitter.getWorldPositionLong();
+            if (transmitter.isValid()) {
+                seeds.add(transmitter);
+            } else {
+                acceptorCache.removeTransmitter(transmitter);
+                removedPositions.add(pos);
+            }
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                TRANSMITTER neighbor = getTransmitter(WorldUtils.relativePos(pos, side));
+                if (neighbor != null && neighbor.isValid()) {
+                    seeds.add(neighbor);
+                }
+            }
+        }
+        removeInvalid(triggerTransmitter);
+        List<List<TRANSMITTER>> splitOff = new NetworkSplitFinder<>(getNetwork()).findSplitOff(seeds);
+        for (List<TRANSMITTER> piece : splitOff) {
+            for (TRANSMITTER transmitter : piece) {
+                //Take the share while still part of this network, and then remove it and let it find its new network as an orphan
+                transmitter.takeShare();
+                positionedTransmitters.remove(transmitter.getWorldPositionLong());
+                acceptorCache.removeTransmitter(transmitter);
+                removedPositions.add(transmitter.getWorldPositionLong());
+                transmitter.setTransmitterNetwork(null);
+                TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+            }
+        }
+        if (isEmpty()) {
+            deregister();
+        } else {
+            if (!removedPositions.isEmpty()) {
+                transmittersRemoved(removedPositions);
+            }
+            for (TRANSMITTER transmitter : changedTransmitters) {
+                if (transmitter.isValid() && transmitter.getTransmitterNetwork() == this) {
+                    connectionsChanged(transmitter);
+                }
+            }
+        }
+        return !splitOff.isEmpty();
+    }
+
+    private boolean connectsToOtherNetwork(Collection<TRANSMITTER> changedTransmitters) {
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (TRANSMITTER transmitter : changedTransmitters) {
+            if (transmitter.isValid()) {
+                BlockPos pos = transmitter.getBlockPos();
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    mutable.setWithOffset(pos, side);
+                    TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, transmitter.getLevel(), mutable);
+                    if (tile != null) {
+                        Transmitter<?, ?, ?> other = tile.getTransmitter();
+                        if (other.isValid() && other.hasTransmitterNetwork() && other.getTransmitterNetwork() != this && transmitter.isValidTransmitter(tile, side)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called after transmitters were removed from this network without the network being rebuilt.
+     *
+     * @param removedPositions Positions of the transmitters that are no longer part of this network.
+     */
+    protected void transmittersRemoved(LongCollection removedPositions) {
+    }
+
     protected void onLastTransmitterRemoved(@NotNull TRANSMITTER triggerTransmitter) {
     }
 
@@ -143,6 +251,12 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         acceptorCache.acceptorChanged(transmitter, side);
     }
 
+    /**
+     * Called when which sides the given transmitter is able to connect to other transmitters on may have changed, without it being removed from this network.
+     */
+    public void connectionsChanged(TRANSMITTER transmitter) {
+    }
+
     public List<TRANSMITTER> adoptTransmittersAndAcceptorsFrom(NETWORK net) {
         positionedTransmitters.putAll(net.positionedTransmitters);
         List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
@@ -160,12 +274,15 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     protected void adoptAllAndRegister(Collection<NETWORK> networks) {
         List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
+        int adopted = 0;
         for (NETWORK net : networks) {
             if (net != null) {
                 transmittersToUpdate.addAll(adoptTransmittersAndAcceptorsFrom(net));
                 net.deregister();
+                adopted++;
             }
         }
+        metrics.recordAdopted(adopted);
         register();
         transmittersToUpdate.forEach(Transmitter::requestsUpdate);
     }
@@ -209,6 +326,33 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void onUpdate() {
     }
 
+    /**
+     * @return {@code true} if this network only interacts with its cached acceptors when updating, which allows it to be updated off the server thread when parallel
+     * network ticking is enabled and all of its acceptors are Mekanism tiles.
+     *
+     * @implNote Any events fired while updating should be posted via {@link TransmitterNetworkRegistry#postNetworkEvent(Event)}. While
+     * {@link TransmitterNetworkRegistry#isUpdatingOffThread()} the network may only simulate inserting into its acceptors, and has to do the actual inserting in
+     * {@link #applyDeferredUpdate()}.
+     */
+    public boolean canUpdateInParallel() {
+        return false;
+    }
+
+    /**
+     * Called on the server thread after this network was updated off the server thread, to actually make any changes to its acceptors that it planned while updating.
+     * This is called for all networks in a consistent order, so that the changes don't depend on which networks finished updating first.
+     */
+    public void applyDeferredUpdate() {
+    }
+
+    public NetworkMetrics getMetrics() {
+        return metrics;
+    }
+
+    public LongSet getAcceptorPositions() {
+        return acceptorCache.getAcceptorPositions();
+    }
+
     public Collection<TRANSMITTER> getTransmitters() {
         return positionedTransmitters.values();
     }
@@ -248,6 +392,15 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
     }
 
+    /**
+     * @return The position of one of the transmitters in this network, or {@code null} if it is empty.
+     */
+    @Nullable
+    public BlockPos getAnyTransmitterPos() {
+        LongIterator iterator = positionedTransmitters.keySet().iterator();
+        return iterator.hasNext() ? BlockPos.of(iterator.nextLong()) : null;
+    }
+
     public int transmittersSize() {
         return positionedTransmitters.size();
     }
@@ -0,0 +1,84 @@
+package mekanism.common.lib.transmitter;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Keeps track of how much time a {@link DynamicNetwork} spends updating, how much it transfers, and how often its structure changes. Averages are exponential moving
+ * averages so that they reflect what the network has been doing recently rather than since it was formed.
+ */
+public class NetworkMetrics {
+
+    /**
+     * Weight of the most recent tick in the moving averages, roughly averages over the last second.
+     */
+    private static final double SMOOTHING = 1 / 20D;
+
+    private long updates;
+    private long totalUpdateNanos;
+    private long maxUpdateNanos;
+    private double averageUpdateNanos;
+    private long totalEmitNanos;
+    private double averageEmitNanos;
+    private long totalTransferred;
+    private double averageTransferred;
+    private int commits;
+    private int networksAdopted;
+
+    void recordUpdate(long nanos) {
+        updates++;
+        totalUpdateNanos += nanos;
+        if (nanos > maxUpdateNanos) {
+            maxUpdateNanos = nanos;
+        }
+        averageUpdateNanos = updates == 1 ? nanos : averageUpdateNanos + SMOOTHING * (nanos - averageUpdateNanos);
+    }
+
+    /**
+     * Records the time spent distributing the network's contents to its acceptors, and the amount that was distributed.
+     */
+    public void recordEmit(long nanos, long transferred) {
+        totalEmitNanos += nanos;
+        averageEmitNanos += SMOOTHING * (nanos - averageEmitNanos);
+        totalTransferred += transferred;
+        averageTransferred += SMOOTHING * (transferred - averageTransferred);
+    }
+
+    void recordCommit() {
+        commits++;
+    }
+
+    void recordAdopted(int networks) {
+        networksAdopted += networks;
+    }
+
+    public long getUpdates() {
+        return updates;
+    }
+
+    public double getAverageUpdateNanos() {
+        return averageUpdateNanos;
+    }
+
+    public long getMaxUpdateNanos() {
+        return maxUpdateNanos;
+    }
+
+    public double getAverageTransferred() {
+        return averageTransferred;
+    }
+
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("updates", updates);
+        json.addProperty("total_update_nanos", totalUpdateNanos);
+        json.addProperty("average_update_nanos", averageUpdateNanos);
+        json.addProperty("max_update_nanos", maxUpdateNanos);
+        json.addProperty("total_emit_nanos", totalEmitNanos);
+        json.addProperty("average_emit_nanos", averageEmitNanos);
+        json.addProperty("total_transferred", totalTransferred);
+        json.addProperty("average_transferred", averageTransferred);
+        json.addProperty("commits", commits);
+        json.addProperty("networks_adopted", networksAdopted);
+        return json;
+    }
+}
@@ -0,0 +1,167 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.Direction;
+
+/**
+ * Figures out whether a network was split into multiple parts after some of its transmitters were removed or had their connections changed, by only looking at the
+ * area around the changes instead of the entire network.
+ * <p>
+ * A breadth first search is started from every transmitter next to a change, and the searches are advanced in lockstep, one transmitter at a time. Whenever a search
+ * reaches a transmitter that another search already visited, the two are joined, as they are still part of the same piece. Once all but one of the searches have either
+ * been joined or run out of transmitters to visit, any search that ran out of transmitters has found a part that was split off from the rest of the network. As the
+ * remaining search is stopped at that point, only about as many transmitters as there are in the parts that were split off end up being visited, so removing a
+ * transmitter from a large network only costs in proportion to the small part (if any) that was cut off from it.
+ *
+ * @implNote Only looks at the transmitters that are currently part of the network, so this doesn't need to look up any tiles in the world.
+ */
+class NetworkSplitFinder<NETWORK extends DynamicNetwork<?, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<?, NETWORK, TRANSMITTER>> {
+
+    private final NETWORK network;
+    private final Long2IntMap visitedBy = new Long2IntOpenHashMap();
+    private final List<Search> searches = new ArrayList<>();
+
+    NetworkSplitFinder(NETWORK network) {
+        this.network = network;
+        this.visitedBy.defaultReturnValue(-1);
+    }
+
+    /**
+     * @param seeds Transmitters in the network next to where the network changed.
+     *
+     * @return The parts of the network that are no longer connected to the largest remaining part, or an empty list if the network is still in one piece.
+     */
+    List<List<TRANSMITTER>> findSplitOff(Collection<TRANSMITTER> seeds) {
+        for (TRANSMITTER seed : seeds) {
+            long pos = seed.getWorldPositionLong();
+            if (!visitedBy.containsKey(pos) && network.getTransmitter(pos) == seed) {
+                Search search = new Search(searches.size());
+                searches.add(search);
+                visitedBy.put(pos, search.id);
+                search.visit(pos, seed);
+            }
+        }
+        if (searches.size() < 2) {
+            //Nothing could have been split off from a single starting point
+            return List.of();
+        }
+        while (countActive() > 1) {
+            for (int i = 0, size = searches.size(); i < size; i++) {
+                Search search = searches.get(i);
+                if (search.parent == search && !search.queue.isEmpty()) {
+                    step(search);
+                }
+            }
+        }
+        Search kept = null;
+        List<Search> pieces = new ArrayList<>();
+        for (Search search : searches) {
+            if (search.parent == search) {
+                pieces.add(search);
+                if (kept == null || !search.queue.isEmpty() || kept.queue.isEmpty() && search.members.size() > kept.members.size()) {
+                    //Keep the piece that is still being explored, as it is the one that everything else is connected to, or if all the pieces are known
+                    // keep the largest one so that as few transmitters as possible have to find a new network
+                    kept = search;
+                }
+            }
+        }
+        List<List<TRANSMITTER>> splitOff = new ArrayList<>(pieces.size() - 1);
+        for (Search piece : pieces) {
+            if (piece != kept) {
+                splitOff.add(piece.members);
+            }
+        }
+        return splitOff;
+    }
+
+    private int countActive() {
+        int active = 0;
+        for (Search search : searches) {
+            if (search.parent == search && !search.queue.isEmpty()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    private void step(Search search) {
+        long pos = search.queue.dequeueLong();
+        TRANSMITTER transmitter = network.getTransmitter(pos);
+        if (transmitter == null) {
+            return;
+        }
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long neighborPos = WorldUtils.relativePos(pos, side);
+            TRANSMITTER neighbor = network.getTransmitter(neighborPos);
+            if (neighbor == null || !neighbor.isValid() || !transmitter.isValidTransmitter(neighbor.getTransmitterTile(), side)) {
+                continue;
+            }
+            //Note: Look up the root each time, as the search may have been joined into another one while looking at a previous side
+            Search owner = search.root();
+            int visitor = visitedBy.get(neighborPos);
+            if (visitor == -1) {
+                visitedBy.put(neighborPos, owner.id);
+                owner.visit(neighborPos, neighbor);
+            } else {
+                Search other = searches.get(visitor).root();
+                if (other != owner) {
+                    join(owner, other);
+                }
+            }
+        }
+    }
+
+    private void join(Search a, Search b) {
+        //Move the smaller search into the larger one
+        if (a.members.size() < b.members.size()) {
+            Search temp = a;
+            a = b;
+            b = temp;
+        }
+        b.parent = a;
+        a.members.addAll(b.members);
+        while (!b.queue.isEmpty()) {
+            a.queue.enqueue(b.queue.dequeueLong());
+        }
+    }
+
+    private class Search {
+
+        private final int id;
+        private final List<TRANSMITTER> members = new ArrayList<>();
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private Search parent = this;
+
+        private Search(int id) {
+            this.id = id;
+        }
+
+        private void visit(long pos, TRANSMITTER transmitter) {
+            members.add(transmitter);
+            queue.enqueue(pos);
+        }
+
+        private Search root() {
+            Search root = this;
+            while (root.parent != root) {
+                root = root.parent;
+            }
+            //Compress the path so later lookups are quicker
+            Search current = this;
+            while (current.parent != root) {
+                Search next = current.parent;
+                current.parent = root;
+                current = next;
+            }
+            return root;
+        }
+    }
+}
@@ -2,22 +2,45 @@ package mekanism.common.lib.transmitter;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.content.transporter.PathfinderCache.CacheStats;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
@@ -25,10 +48,16 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.neoforged.bus.api.Event;
 import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.util.thread.SidedThreadGroups;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.level.ChunkTicketLevelUpdatedEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
@@ -37,6 +66,15 @@ import org.jetbrains.annotations.Nullable;
 public class TransmitterNetworkRegistry {
 
     private static final TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
+    /**
+     * Pool that networks are updated on when parallel network ticking is enabled.
+     */
+    private static final ForkJoinPool NETWORK_POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), NetworkUpdateThread::new,
+          null, false);
+    /**
+     * Events fired by networks that are being updated off the server thread, so that they can be posted on the server thread once all networks finish updating.
+     */
+    private static final ThreadLocal<List<Event>> deferredEvents = new ThreadLocal<>();
     private static boolean loaderRegistered = false;
     private final Multimap<Chunk3D, Transmitter<?, ?, ?>> transmitters = HashMultimap.create();
     private Object2BooleanMap<Chunk3D> changedTicketChunks = new Object2BooleanOpenHashMap<>();
@@ -45,6 +83,12 @@ public class TransmitterNetworkRegistry {
     private Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final List<NetworkShard> shards = new ArrayList<>();
+    private final List<DynamicNetwork<?, ?, ?>> serialNetworks = new ArrayList<>();
+    private boolean shardsDirty = true;
+    private long networksFormed;
+    private long networksMerged;
+    private long networksSplit;
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -79,6 +123,12 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        getInstance().shards.clear();
+        getInstance().serialNetworks.clear();
+        getInstance().shardsDirty = true;
+        getInstance().networksFormed = 0;
+        getInstance().networksMerged = 0;
+        getInstance().networksSplit = 0;
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -110,16 +160,41 @@ public class TransmitterNetworkRegistry {
         getInstance().networksToChange.add(network);
     }
 
+    /**
+     * Posts an event fired by a network while it is updating. If the network is being updated off the server thread the event is instead posted once all networks have
+     * finished updating.
+     */
+    public static void postNetworkEvent(Event event) {
+        List<Event> deferred = deferredEvents.get();
+        if (deferred == null) {
+            NeoForge.EVENT_BUS.post(event);
+        } else {
+            deferred.add(event);
+        }
+    }
+
+    /**
+     * @return {@code true} if the current thread is updating networks off the server thread, in which case networks should only simulate interacting with their acceptors
+     * and defer the actual changes until {@link DynamicNetwork#applyDeferredUpdate()} gets called on the server thread.
+     */
+    public static boolean isUpdatingOffThread() {
+        return deferredEvents.get() != null;
+    }
+
     public static TransmitterNetworkRegistry getInstance() {
         return INSTANCE;
     }
 
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.add(network);
+        if (networks.add(network)) {
+            shardsDirty = true;
+        }
     }
 
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            shardsDirty = true;
+        }
         networksToChange.remove(network);
     }
 
@@ -130,10 +205,160 @@ public class TransmitterNetworkRegistry {
         assignOrphans();
         commitChanges();
         if (event.getServer().tickRateManager().runsNormally()) {
-            for (DynamicNetwork<?, ?, ?> net : networks) {
-                net.onUpdate();
+            if (MekanismConfig.general.parallelNetworkTicks.get()) {
+                updateInParallel(event.getServer());
+            } else {
+                for (DynamicNetwork<?, ?, ?> net : networks) {
+                    updateNetwork(net);
+                }
+            }
+        }
+    }
+
+    private static void updateNetwork(DynamicNetwork<?, ?, ?> network) {
+        long start = System.nanoTime();
+        network.onUpdate();
+        network.getMetrics().recordUpdate(System.nanoTime() - start);
+    }
+
+    private void updateInParallel(MinecraftServer server) {
+        if (shardsDirty) {
+            buildShards();
+            shardsDirty = false;
+        }
+        for (DynamicNetwork<?, ?, ?> net : serialNetworks) {
+            updateNetwork(net);
+        }
+        if (shards.size() == 1) {
+            //No point in handing a single shard off to another thread
+            for (DynamicNetwork<?, ?, ?> net : shards.get(0).networks) {
+                updateNetwork(net);
+            }
+        } else if (!shards.isEmpty()) {
+            CompletableFuture<?>[] updates = new CompletableFuture[shards.size()];
+            for (int i = 0; i < updates.length; i++) {
+                updates[i] = CompletableFuture.runAsync(shards.get(i)::update, NETWORK_POOL);
+            }
+            CompletableFuture<Void> allUpdates = CompletableFuture.allOf(updates);
+            while (!allUpdates.isDone()) {
+                //Handlers may end up looking up chunks, which when done off the server thread gets scheduled on the server thread,
+                // so we have to keep running those tasks while we wait or we would deadlock
+                boolean ranTask = false;
+                for (ServerLevel level : server.getAllLevels()) {
+                    ranTask |= level.getChunkSource().pollTask();
+                }
+                if (!ranTask) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                }
+            }
+            //Rethrow any errors that happened while updating
+            allUpdates.join();
+            //Merge step: apply the changes the networks planned to make to their acceptors, and then post the events that they fired, in a consistent order
+            for (NetworkShard shard : shards) {
+                shard.applyDeferredUpdates();
+            }
+            for (NetworkShard shard : shards) {
+                shard.postDeferredEvents();
+            }
+        }
+    }
+
+    /**
+     * Groups the networks that can be updated in parallel into shards, where any networks that have acceptors within two chunks of each other are in the same shard. This
+     * makes sure that networks connected to the same block, or different parts of the same multiblock, plan how to split their contents one after another.
+     *
+     * @implNote Networks only simulate inserting into their acceptors while being updated in parallel, and the actual inserts are applied on the server thread afterward,
+     * so the shards don't have to isolate any state that the acceptors share (such as the frequency of a quantum entangloporter). Only networks whose acceptors are all
+     * Mekanism tiles get updated in parallel, as handlers from other mods may not be safe to simulate inserting into off the server thread (for example by looking up
+     * block entities, which returns {@code null} off the server thread).
+     */
+    private void buildShards() {
+        shards.clear();
+        serialNetworks.clear();
+        List<DynamicNetwork<?, ?, ?>> parallelNetworks = new ArrayList<>();
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            if (network.canUpdateInParallel() && network.getWorld() != null && hasOnlyMekanismAcceptors(network)) {
+                parallelNetworks.add(network);
+            } else {
+                serialNetworks.add(network);
+            }
+        }
+        int[] parent = new int[parallelNetworks.size()];
+        Map<ResourceKey<Level>, Long2IntMap> regionOwners = new Object2ObjectOpenHashMap<>();
+        LongSet acceptorChunks = new LongOpenHashSet();
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            DynamicNetwork<?, ?, ?> network = parallelNetworks.get(i);
+            acceptorChunks.clear();
+            for (LongIterator iterator = network.getAcceptorPositions().iterator(); iterator.hasNext(); ) {
+                acceptorChunks.add(ChunkPos.asLong(BlockPos.of(iterator.nextLong())));
+            }
+            Long2IntMap owners = regionOwners.computeIfAbsent(network.getWorld().dimension(), dimension -> {
+                Long2IntMap map = new Long2IntOpenHashMap();
+                map.defaultReturnValue(-1);
+                return map;
+            });
+            for (LongIterator iterator = acceptorChunks.iterator(); iterator.hasNext(); ) {
+                long chunk = iterator.nextLong();
+                int chunkX = ChunkPos.getX(chunk);
+                int chunkZ = ChunkPos.getZ(chunk);
+                //Claim the surrounding chunks as well, so that any two acceptors within two chunks of each other claim at least one chunk in common
+                for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+                    for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+                        int owner = owners.putIfAbsent(ChunkPos.asLong(x, z), i);
+                        if (owner != -1) {
+                            union(parent, owner, i);
+                        }
+                    }
+                }
+            }
+        }
+        Int2ObjectMap<NetworkShard> shardsByRoot = new Int2ObjectOpenHashMap<>();
+        for (int i = 0; i < parent.length; i++) {
+            NetworkShard shard = shardsByRoot.computeIfAbsent(find(parent, i), root -> {
+                NetworkShard newShard = new NetworkShard();
+                shards.add(newShard);
+                return newShard;
+            });
+            shard.networks.add(parallelNetworks.get(i));
+        }
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Split {} networks into {} shards, {} networks will be updated serially", parallelNetworks.size(), shards.size(), serialNetworks.size());
+        }
+    }
+
+    /**
+     * @return {@code true} if all the acceptors of the given network are handlers provided by Mekanism tiles, that are known to only interact with their own state when
+     * simulating.
+     *
+     * @apiNote Only call on the server thread.
+     */
+    private static boolean hasOnlyMekanismAcceptors(DynamicNetwork<?, ?, ?> network) {
+        Level world = network.getWorld();
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        for (LongIterator iterator = network.getAcceptorPositions().iterator(); iterator.hasNext(); ) {
+            if (WorldUtils.getTileEntity(TileEntityMekanism.class, world, chunkMap, BlockPos.of(iterator.nextLong())) == null) {
+                return false;
             }
         }
+        return true;
+    }
+
+    private static int find(int[] parent, int index) {
+        while (parent[index] != index) {
+            //Path halving
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
     }
 
     @SubscribeEvent
@@ -198,24 +423,35 @@ public class TransmitterNetworkRegistry {
             if (MekanismAPI.debug) {
                 Mekanism.logger.info("Dealing with {} invalid Transmitters", toInvalidate.size());
             }
+            //Group the transmitters by network so that each network only has to check if it was split once
+            Map<DynamicNetwork<?, ?, ?>, List<Transmitter<?, ?, ?>>> changedByNetwork = new Reference2ObjectOpenHashMap<>();
             for (Transmitter<?, ?, ?> invalid : toInvalidate) {
-                removeInvalidTransmitter(invalid);
+                if (!invalid.isOrphan() || !invalid.isValid()) {
+                    DynamicNetwork<?, ?, ?> n = invalid.getTransmitterNetwork();
+                    if (n != null) {
+                        changedByNetwork.computeIfAbsent(n, network -> new ArrayList<>()).add(invalid);
+                    }
+                }
+            }
+            for (Map.Entry<DynamicNetwork<?, ?, ?>, List<Transmitter<?, ?, ?>>> entry : changedByNetwork.entrySet()) {
+                removeInvalidTransmitters(entry.getKey(), entry.getValue());
             }
         }
     }
 
+    @SuppressWarnings("unchecked")
     private <NETWORK extends DynamicNetwork<?, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<?, NETWORK, TRANSMITTER>>
-    void removeInvalidTransmitter(Transmitter<?, NETWORK, TRANSMITTER> invalid) {
-        if (!invalid.isOrphan() || !invalid.isValid()) {
-            NETWORK n = invalid.getTransmitterNetwork();
-            if (n != null) {
-                n.invalidate((TRANSMITTER) invalid);
-                if (!invalid.isValid()) {
-                    //If the transmitter isn't valid, then we need to make sure we clear the network from it
-                    // after invalidating the network, so that we can make sure that if this transmitter somehow
-                    // gets revived, then it will be able to be properly handled as an orphan.
-                    invalid.setTransmitterNetwork(null, false);
-                }
+    void removeInvalidTransmitters(DynamicNetwork<?, ?, ?> network, List<Transmitter<?, ?, ?>> changed) {
+        NETWORK n = (NETWORK) network;
+        if (n.invalidateLocally((List<TRANSMITTER>) (List<?>) changed)) {
+            networksSplit++;
+        }
+        for (Transmitter<?, ?, ?> invalid : changed) {
+            if (!invalid.isValid()) {
+                //If the transmitter isn't valid, then we need to make sure we clear the network from it
+                // after invalidating the network, so that we can make sure that if this transmitter somehow
+                // gets revived, then it will be able to be properly handled as an orphan.
+                ((TRANSMITTER) invalid).setTransmitterNetwork(null, false);
             }
         }
     }
@@ -244,6 +480,8 @@ public class TransmitterNetworkRegistry {
             for (DynamicNetwork<?, ?, ?> network : networks) {
                 network.commit();
             }
+            //Acceptors may have changed, which may change which networks can be updated at the same time
+            shardsDirty = true;
         }
     }
 
@@ -252,6 +490,50 @@ public class TransmitterNetworkRegistry {
         return "Network Registry:\n" + networks;
     }
 
+    public Collection<DynamicNetwork<?, ?, ?>> getNetworks() {
+        return Collections.unmodifiableCollection(networks);
+    }
+
+    /**
+     * @return Metrics for all server side networks, and totals for how often networks have been formed, merged, and split since the server started.
+     */
+    public JsonObject metricsToJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("networks", networks.size());
+        json.addProperty("networks_formed", networksFormed);
+        json.addProperty("networks_merged", networksMerged);
+        json.addProperty("networks_split", networksSplit);
+        json.addProperty("parallel_shards", MekanismConfig.general.parallelNetworkTicks.get() ? shards.size() : 0);
+        CacheStats pathStats = PathfinderCache.getStats();
+        JsonObject pathfinder = new JsonObject();
+        pathfinder.addProperty("hits", pathStats.hits());
+        pathfinder.addProperty("misses", pathStats.misses());
+        pathfinder.addProperty("evictions", pathStats.evictions());
+        pathfinder.addProperty("size", pathStats.size());
+        json.add("pathfinder_cache", pathfinder);
+        JsonArray networkArray = new JsonArray();
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            JsonObject networkJson = network.getMetrics().toJson();
+            networkJson.addProperty("uuid", network.getUUID().toString());
+            networkJson.addProperty("type", network.getClass().getSimpleName());
+            Level world = network.getWorld();
+            if (world != null) {
+                networkJson.addProperty("dimension", world.dimension().location().toString());
+            }
+            BlockPos pos = network.getAnyTransmitterPos();
+            if (pos != null) {
+                networkJson.addProperty("x", pos.getX());
+                networkJson.addProperty("y", pos.getY());
+                networkJson.addProperty("z", pos.getZ());
+            }
+            networkJson.addProperty("transmitters", network.transmittersSize());
+            networkJson.addProperty("acceptors", network.getAcceptorCount());
+            networkArray.add(networkJson);
+        }
+        json.add("network_metrics", networkArray);
+        return json;
+    }
+
     public Component[] toComponents() {
         Component[] components = new Component[networks.size()];
         int i = 0;
@@ -261,6 +543,53 @@ public class TransmitterNetworkRegistry {
         return components;
     }
 
+    /**
+     * Group of networks that do not have any acceptors near the acceptors of networks in other shards, and can therefore be updated at the same time as other shards.
+     */
+    private static class NetworkShard {
+
+        private final List<DynamicNetwork<?, ?, ?>> networks = new ArrayList<>();
+        private final List<Event> events = new ArrayList<>();
+
+        private void update() {
+            deferredEvents.set(events);
+            try {
+                for (DynamicNetwork<?, ?, ?> network : networks) {
+                    updateNetwork(network);
+                }
+            } finally {
+                deferredEvents.remove();
+            }
+        }
+
+        private void applyDeferredUpdates() {
+            for (DynamicNetwork<?, ?, ?> network : networks) {
+                network.applyDeferredUpdate();
+            }
+        }
+
+        private void postDeferredEvents() {
+            for (Event event : events) {
+                NeoForge.EVENT_BUS.post(event);
+            }
+            events.clear();
+        }
+    }
+
+    private static class NetworkUpdateThread extends ForkJoinWorkerThread {
+
+        private static final AtomicInteger threadCount = new AtomicInteger();
+
+        private NetworkUpdateThread(ForkJoinPool pool) {
+            //Note: We use the server thread group so that anything checking the effective side while a network is updating sees that it is on the server
+            super(SidedThreadGroups.SERVER, pool, true);
+            setName("Mekanism Network Update thread " + threadCount.getAndIncrement());
+            setDaemon(true);
+            //Make sure the workers can see the mod's classes
+            setContextClassLoader(TransmitterNetworkRegistry.class.getClassLoader());
+        }
+    }
+
     public static class OrphanPathFinder<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>,
           TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>> {
 
@@ -304,6 +633,11 @@ public class TransmitterNetworkRegistry {
                         Mekanism.logger.info("Merging {} networks with {} new transmitters", networksFound.size(), connectedTransmitters.size());
                     }
                 }
+                if (networksFound.isEmpty()) {
+                    INSTANCE.networksFormed++;
+                } else {
+                    INSTANCE.networksMerged++;
+                }
                 //TODO: Should we take one of the existing network's uuids if there is one?
                 network = startPoint.createNetworkByMerging(networksFound);
             }
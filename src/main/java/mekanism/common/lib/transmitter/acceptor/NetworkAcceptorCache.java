@@ -2,16 +2,24 @@ package mekanism.common.lib.transmitter.acceptor;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.distribution.Target;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -22,24 +30,67 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     private final Long2ObjectMap<Map<Direction, ACCEPTOR>> cachedAcceptors = new Long2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Max number of times the amount of ticks an acceptor is skipped for is doubled when it keeps being unable to accept anything.
+     */
+    private static final int MAX_BACKOFF = 3;
+
+    /**
+     * Flattened view of every acceptor connected to the network, kept between ticks and only rebuilt after the acceptors change.
+     */
+    private final List<ACCEPTOR> distributionTargets = new ArrayList<>();
+    /**
+     * Tick at which each acceptor in {@link #distributionTargets} should next be checked to see if it can accept anything.
+     */
+    private int[] nextCheck = new int[0];
+    /**
+     * Number of consecutive checks each acceptor in {@link #distributionTargets} could not accept anything.
+     */
+    private byte[] failedChecks = new byte[0];
+    private boolean targetsDirty = true;
+    @Nullable
+    private Object lastResourceType;
+    private int emitTicks;
+
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
         ACCEPTOR acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : null;
         long acceptorPos = WorldUtils.relativePos(transmitter.getWorldPositionLong(), side);
         if (acceptor == null) {
             Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
-            if (cached != null) {
-                cached.remove(side.getOpposite());
+            if (cached != null && cached.remove(side.getOpposite()) != null) {
+                targetsDirty = true;
                 if (cached.isEmpty()) {
                     cachedAcceptors.remove(acceptorPos);
                 }
             }
         } else {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+            if (cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor) != acceptor) {
+                targetsDirty = true;
+            }
+        }
+    }
+
+    /**
+     * Removes any acceptors the given transmitter was providing to the network, for when the transmitter is no longer part of the network.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        changedAcceptors.remove(transmitter);
+        long transmitterPos = transmitter.getWorldPositionLong();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long acceptorPos = WorldUtils.relativePos(transmitterPos, side);
+            Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null && cached.remove(side.getOpposite()) != null) {
+                targetsDirty = true;
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            }
         }
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        targetsDirty = true;
         for (Long2ObjectMap.Entry<Map<Direction, ACCEPTOR>> entry : other.cachedAcceptors.long2ObjectEntrySet()) {
             long pos = entry.getLongKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -81,6 +132,72 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        distributionTargets.clear();
+        targetsDirty = true;
+    }
+
+    /**
+     * Collects the acceptors that are able to accept the resource being emitted this tick. Acceptors that were unable to accept anything are not checked again for an
+     * increasing number of ticks, up to {@code 2^}{@value #MAX_BACKOFF}, and all acceptors are checked again whenever the acceptors connected to the network change, or
+     * the type of resource being emitted changes.
+     *
+     * @param resourceType  The type of resource being emitted, compared by reference. Typed null where not relevant.
+     * @param canAccept     Checks if the given acceptor can currently accept the resource.
+     * @param targetCreator Creates the target given the expected number of handlers.
+     *
+     * @return Target containing all the acceptors that can accept the resource, or {@code null} if there are none.
+     */
+    @Nullable
+    public <TARGET extends Target<ACCEPTOR, ?>> TARGET getDistributionTarget(@Nullable Object resourceType, Predicate<ACCEPTOR> canAccept,
+          IntFunction<TARGET> targetCreator) {
+        if (targetsDirty) {
+            rebuildDistributionTargets();
+        } else if (resourceType != lastResourceType) {
+            //Acceptors that couldn't accept the previous type may be able to accept the new one
+            Arrays.fill(nextCheck, 0);
+            Arrays.fill(failedChecks, (byte) 0);
+        }
+        lastResourceType = resourceType;
+        int tick = emitTicks++;
+        TARGET target = null;
+        for (int i = 0, size = distributionTargets.size(); i < size; i++) {
+            if (nextCheck[i] - tick > 0) {
+                //Skip acceptors that recently were unable to accept anything
+                continue;
+            }
+            ACCEPTOR acceptor = distributionTargets.get(i);
+            if (canAccept.test(acceptor)) {
+                failedChecks[i] = 0;
+                if (target == null) {
+                    //Lazily initialize the target, which allows us to also skip attempting to start emitting
+                    target = targetCreator.apply(size);
+                }
+                target.addHandler(acceptor);
+            } else {
+                byte failed = failedChecks[i];
+                nextCheck[i] = tick + (1 << failed);
+                if (failed < MAX_BACKOFF) {
+                    failedChecks[i] = (byte) (failed + 1);
+                }
+            }
+        }
+        return target;
+    }
+
+    private void rebuildDistributionTargets() {
+        distributionTargets.clear();
+        for (Map<Direction, ACCEPTOR> acceptors : cachedAcceptors.values()) {
+            distributionTargets.addAll(acceptors.values());
+        }
+        int size = distributionTargets.size();
+        if (nextCheck.length == size) {
+            Arrays.fill(nextCheck, 0);
+            Arrays.fill(failedChecks, (byte) 0);
+        } else {
+            nextCheck = new int[size];
+            failedChecks = new byte[size];
+        }
+        targetsDirty = false;
     }
 
     /**
@@ -97,6 +214,10 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.values();
     }
 
+    public LongSet getAcceptorPositions() {
+        return cachedAcceptors.keySet();
+    }
+
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
         return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
@@ -4,11 +4,12 @@ import mekanism.client.render.hud.MekanismStatusOverlay;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.Version;
+import mekanism.common.network.to_client.PacketBatchLightningRender;
 import mekanism.common.network.to_client.PacketHitBlockEffect;
 import mekanism.common.network.to_client.PacketLightningRender;
 import mekanism.common.network.to_client.PacketPortalFX;
 import mekanism.common.network.to_client.PacketSetDeltaMovement;
-import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTiles;
 import mekanism.common.network.to_client.configuration.SyncAllSecurityData;
 import mekanism.common.network.to_client.container.PacketUpdateContainer;
 import mekanism.common.network.to_client.player_data.PacketPlayerData;
@@ -145,6 +146,7 @@ public class PacketHandler extends BasePacketHandler {
         //Play packets
         registrar.play(PacketHitBlockEffect.TYPE, PacketHitBlockEffect.STREAM_CODEC);
         registrar.play(PacketLightningRender.TYPE, PacketLightningRender.STREAM_CODEC);
+        registrar.play(PacketBatchLightningRender.TYPE, PacketBatchLightningRender.STREAM_CODEC);
         registrar.play(PacketPlayerData.TYPE, PacketPlayerData.STREAM_CODEC);
         registrar.play(PacketPortalFX.TYPE, PacketPortalFX.STREAM_CODEC);
         registrar.play(PacketEnvironmentalRadiationData.TYPE, PacketEnvironmentalRadiationData.STREAM_CODEC);
@@ -153,7 +155,7 @@ public class PacketHandler extends BasePacketHandler {
         registrar.play(PacketSyncSecurity.TYPE, PacketSyncSecurity.STREAM_CODEC);
         showModeChange = registrar.playInstanced(Mekanism.rl("show_mode_change"), (ignored, context) -> MekanismStatusOverlay.INSTANCE.setTimer());
         registrar.play(PacketUpdateContainer.TYPE, PacketUpdateContainer.STREAM_CODEC);
-        registrar.play(PacketUpdateTile.TYPE, PacketUpdateTile.STREAM_CODEC);
+        registrar.play(PacketUpdateTiles.TYPE, PacketUpdateTiles.STREAM_CODEC);
         registrar.play(PacketSetDeltaMovement.TYPE, PacketSetDeltaMovement.STREAM_CODEC);
 
         //QIO
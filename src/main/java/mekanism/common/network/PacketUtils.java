@@ -141,8 +141,10 @@ public class PacketUtils {
      * without the immutable list.
      */
     public static boolean hasPlayersTracking(ServerLevel level, BlockPos pos) {
-        int chunkX = SectionPos.blockToSectionCoord(pos.getX());
-        int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        return hasPlayersTracking(level, SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    public static boolean hasPlayersTracking(ServerLevel level, int chunkX, int chunkZ) {
         Set<ServerPlayer> players = level.getChunkSource().chunkMap.playerMap.getAllPlayers();
 
         for (ServerPlayer serverplayer : players) {
@@ -0,0 +1,101 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import mekanism.common.network.to_client.PacketUpdateTiles;
+import mekanism.common.network.to_client.PacketUpdateTiles.TileUpdate;
+import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Collects the tile updates that happen during a tick, so that a tile is only sent to the client at most once per tick, and all the updates for tiles in the same chunk
+ * are sent as a single packet at the end of the tick.
+ *
+ * @implNote Queueing is synchronized as tiles may request updates while networks are being updated off the main thread.
+ */
+public class TileUpdateBatcher {
+
+    private static final Map<ServerLevel, Long2ObjectMap<Map<TileEntityUpdateable, PendingUpdate>>> pendingUpdates = new Reference2ObjectOpenHashMap<>();
+
+    private TileUpdateBatcher() {
+    }
+
+    /**
+     * Queues the given tile's entire update tag to be sent at the end of the tick.
+     */
+    public static synchronized void queueUpdate(ServerLevel level, TileEntityUpdateable tile) {
+        getPending(level, tile).fullUpdate = true;
+    }
+
+    /**
+     * Queues the given sync fields that changed to be sent at the end of the tick.
+     */
+    public static synchronized void queueChangedFields(ServerLevel level, TileEntityUpdateable tile, List<PropertyData> changedFields) {
+        PendingUpdate pending = getPending(level, tile);
+        if (!pending.fullUpdate) {
+            pending.changedFields.addAll(changedFields);
+        }
+    }
+
+    private static PendingUpdate getPending(ServerLevel level, TileEntityUpdateable tile) {
+        return pendingUpdates.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(tile.getBlockPos()), chunk -> new Reference2ObjectLinkedOpenHashMap<>())
+              .computeIfAbsent(tile, t -> new PendingUpdate());
+    }
+
+    /**
+     * Sends all the queued updates to the players tracking the chunks they are in.
+     */
+    public static synchronized void flush() {
+        if (pendingUpdates.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<ServerLevel, Long2ObjectMap<Map<TileEntityUpdateable, PendingUpdate>>> levelEntry : pendingUpdates.entrySet()) {
+            ServerLevel level = levelEntry.getKey();
+            RegistryAccess registryAccess = level.registryAccess();
+            for (Long2ObjectMap.Entry<Map<TileEntityUpdateable, PendingUpdate>> chunkEntry : levelEntry.getValue().long2ObjectEntrySet()) {
+                ChunkPos chunk = new ChunkPos(chunkEntry.getLongKey());
+                if (!PacketUtils.hasPlayersTracking(level, chunk.x, chunk.z)) {
+                    //Nobody to send it to, the tiles will be sent in full when a player starts tracking the chunk
+                    continue;
+                }
+                List<TileUpdate> updates = new ArrayList<>(chunkEntry.getValue().size());
+                for (Map.Entry<TileEntityUpdateable, PendingUpdate> entry : chunkEntry.getValue().entrySet()) {
+                    TileEntityUpdateable tile = entry.getKey();
+                    if (!tile.isRemoved()) {
+                        PendingUpdate pending = entry.getValue();
+                        if (pending.fullUpdate) {
+                            //Note: We get the update tag now rather than when it was queued so that it has the latest state of the tile
+                            updates.add(new TileUpdate(tile.getBlockPos(), tile.getReducedUpdateTag(registryAccess), List.of()));
+                        } else {
+                            updates.add(new TileUpdate(tile.getBlockPos(), null, pending.changedFields));
+                        }
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    PacketDistributor.sendToPlayersTrackingChunk(level, chunk, new PacketUpdateTiles(chunk, updates));
+                }
+            }
+        }
+        pendingUpdates.clear();
+    }
+
+    public static synchronized void reset() {
+        pendingUpdates.clear();
+    }
+
+    private static class PendingUpdate {
+
+        private final List<PropertyData> changedFields = new ArrayList<>();
+        private boolean fullUpdate;
+    }
+}
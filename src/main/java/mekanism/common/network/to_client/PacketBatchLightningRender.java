@@ -0,0 +1,54 @@
+package mekanism.common.network.to_client;
+
+import io.netty.buffer.ByteBuf;
+import java.util.List;
+import mekanism.client.render.RenderTickHandler;
+import mekanism.common.Mekanism;
+import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_client.PacketLightningRender.LightningPreset;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * All the bolts of a single effect that hits many blocks at once (such as vein mining), so that they can be sent and rendered together instead of as a packet per bolt.
+ */
+public record PacketBatchLightningRender(LightningPreset preset, int segments, List<Bolt> bolts) implements IMekanismPacket {
+
+    public static final CustomPacketPayload.Type<PacketBatchLightningRender> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("render_bolt_batch"));
+    public static final StreamCodec<ByteBuf, PacketBatchLightningRender> STREAM_CODEC = StreamCodec.composite(
+          LightningPreset.STREAM_CODEC, PacketBatchLightningRender::preset,
+          ByteBufCodecs.VAR_INT, PacketBatchLightningRender::segments,
+          Bolt.STREAM_CODEC.apply(ByteBufCodecs.list()), PacketBatchLightningRender::bolts,
+          PacketBatchLightningRender::new
+    );
+
+    @NotNull
+    @Override
+    public CustomPacketPayload.Type<PacketBatchLightningRender> type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(IPayloadContext context) {
+        if (preset.shouldRender()) {
+            for (Bolt bolt : bolts) {
+                RenderTickHandler.renderBolt(bolt.renderer(), preset.createBolt(bolt.start(), bolt.end(), segments));
+            }
+        }
+    }
+
+    public record Bolt(int renderer, Vec3 start, Vec3 end) {
+
+        public static final StreamCodec<ByteBuf, Bolt> STREAM_CODEC = StreamCodec.composite(
+              ByteBufCodecs.VAR_INT, Bolt::renderer,
+              PacketUtils.VEC3_STREAM_CODEC, Bolt::start,
+              PacketUtils.VEC3_STREAM_CODEC, Bolt::end,
+              Bolt::new
+        );
+    }
+}
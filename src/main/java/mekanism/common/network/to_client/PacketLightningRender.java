@@ -39,8 +39,8 @@ public record PacketLightningRender(LightningPreset preset, int renderer, Vec3 s
 
     @Override
     public void handle(IPayloadContext context) {
-        if (preset.shouldAdd.getAsBoolean()) {
-            RenderTickHandler.renderBolt(renderer, preset.boltCreator.create(start, end, segments));
+        if (preset.shouldRender()) {
+            RenderTickHandler.renderBolt(renderer, preset.createBolt(start, end, segments));
         }
     }
 
@@ -66,5 +66,13 @@ public record PacketLightningRender(LightningPreset preset, int renderer, Vec3 s
             this.shouldAdd = shouldAdd;
             this.boltCreator = boltCreator;
         }
+
+        public boolean shouldRender() {
+            return shouldAdd.getAsBoolean();
+        }
+
+        public BoltEffect createBolt(Vec3 start, Vec3 end, int segments) {
+            return boltCreator.create(start, end, segments);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package mekanism.common.network.to_client;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.common.Mekanism;
+import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.tile.base.TileSyncFields;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * All the tile updates for a single chunk that happened during a tick. Positions are sent relative to the chunk, and tiles that only had some of their sync fields change
+ * just send those fields instead of their entire update tag.
+ */
+public record PacketUpdateTiles(ChunkPos chunk, List<TileUpdate> updates) implements IMekanismPacket {
+
+    public static final CustomPacketPayload.Type<PacketUpdateTiles> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_tiles"));
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateTiles> STREAM_CODEC = StreamCodec.ofMember(PacketUpdateTiles::write, PacketUpdateTiles::decode);
+    private static final StreamCodec<RegistryFriendlyByteBuf, List<PropertyData>> CHANGES_STREAM_CODEC = PropertyData.GENERIC_STREAM_CODEC.apply(ByteBufCodecs.list());
+
+    @NotNull
+    @Override
+    public CustomPacketPayload.Type<PacketUpdateTiles> type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(IPayloadContext context) {
+        Level world = context.player().level();
+        for (TileUpdate update : updates) {
+            BlockPos pos = update.pos();
+            //Only handle the update if the block is currently loaded (otherwise we would have the warning get logged in cases we don't want it to)
+            if (WorldUtils.isBlockLoaded(world, pos)) {
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
+                if (tile == null) {
+                    Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
+                          world.dimension().location());
+                    continue;
+                }
+                if (update.updateTag() != null) {
+                    tile.handleUpdatePacket(update.updateTag(), world.registryAccess());
+                }
+                if (!update.changedFields().isEmpty()) {
+                    TileSyncFields syncFields = tile.getSyncFields();
+                    for (PropertyData changed : update.changedFields()) {
+                        changed.handleWindowProperty(syncFields);
+                    }
+                }
+            }
+        }
+    }
+
+    private void write(RegistryFriendlyByteBuf buffer) {
+        VarInt.write(buffer, chunk.x);
+        VarInt.write(buffer, chunk.z);
+        VarInt.write(buffer, updates.size());
+        for (TileUpdate update : updates) {
+            BlockPos pos = update.pos();
+            //Pack the position within the chunk into a single byte, and the y level as a short as it fits within the max build height
+            buffer.writeByte(SectionPos.sectionRelative(pos.getX()) << 4 | SectionPos.sectionRelative(pos.getZ()));
+            buffer.writeShort(pos.getY());
+            buffer.writeBoolean(update.updateTag() != null);
+            if (update.updateTag() != null) {
+                ByteBufCodecs.TRUSTED_COMPOUND_TAG.encode(buffer, update.updateTag());
+            }
+            CHANGES_STREAM_CODEC.encode(buffer, update.changedFields());
+        }
+    }
+
+    private static PacketUpdateTiles decode(RegistryFriendlyByteBuf buffer) {
+        ChunkPos chunk = new ChunkPos(VarInt.read(buffer), VarInt.read(buffer));
+        int count = VarInt.read(buffer);
+        List<TileUpdate> updates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int packed = buffer.readUnsignedByte();
+            BlockPos pos = new BlockPos(chunk.getBlockX(packed >> 4), buffer.readShort(), chunk.getBlockZ(packed & 0xF));
+            CompoundTag updateTag = buffer.readBoolean() ? ByteBufCodecs.TRUSTED_COMPOUND_TAG.decode(buffer) : null;
+            updates.add(new TileUpdate(pos, updateTag, CHANGES_STREAM_CODEC.decode(buffer)));
+        }
+        return new PacketUpdateTiles(chunk, updates);
+    }
+
+    /**
+     * @param updateTag     The full update tag of the tile, or {@code null} if only some fields changed.
+     * @param changedFields The sync fields of the tile that changed.
+     */
+    public record TileUpdate(BlockPos pos, @Nullable CompoundTag updateTag, List<PropertyData> changedFields) {
+    }
+}
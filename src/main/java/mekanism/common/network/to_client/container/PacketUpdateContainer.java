@@ -33,7 +33,7 @@ public record PacketUpdateContainer(short windowId, List<PropertyData> data) imp
         if (context.player().containerMenu instanceof MekanismContainer container && container.containerId == windowId) {
             // and if so handle the packet
             for (PropertyData datum : data) {
-                datum.handleWindowProperty(container);
+                container.handleProperty(datum);
             }
         }
     }
@@ -1,17 +1,16 @@
 package mekanism.common.network.to_client.container.property;
 
 import io.netty.buffer.ByteBuf;
-import mekanism.common.inventory.container.MekanismContainer;
+import mekanism.common.inventory.container.sync.ISyncableDataHolder;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import org.jetbrains.annotations.Nullable;
 
 public class BlockPosPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, BlockPosPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           BlockPos.STREAM_CODEC, data -> data.value,
           BlockPosPropertyData::new
     );
@@ -25,7 +24,7 @@ public class BlockPosPropertyData extends PropertyData {
     }
 
     @Override
-    public void handleWindowProperty(MekanismContainer container) {
+    public void handleWindowProperty(ISyncableDataHolder container) {
         container.handleWindowProperty(getProperty(), value);
     }
 }
\ No newline at end of file
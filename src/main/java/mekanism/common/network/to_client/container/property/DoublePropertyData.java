@@ -1,7 +1,7 @@
 package mekanism.common.network.to_client.container.property;
 
 import io.netty.buffer.ByteBuf;
-import mekanism.common.inventory.container.MekanismContainer;
+import mekanism.common.inventory.container.sync.ISyncableDataHolder;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class DoublePropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, DoublePropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.DOUBLE, data -> data.value,
           DoublePropertyData::new
     );
@@ -22,7 +22,7 @@ public class DoublePropertyData extends PropertyData {
     }
 
     @Override
-    public void handleWindowProperty(MekanismContainer container) {
+    public void handleWindowProperty(ISyncableDataHolder container) {
         container.handleWindowProperty(getProperty(), value);
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package mekanism.common.network.to_client.container.property;
+
+import io.netty.buffer.ByteBuf;
+import mekanism.common.inventory.container.sync.ISyncableDataHolder;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Change in an int property since the last value that was synced for it. The delta is zigzag encoded so that small decreases are as compact as small increases.
+ *
+ * @see mekanism.common.inventory.container.sync.PropertyDeltaTracker
+ */
+public class IntDeltaPropertyData extends PropertyData {
+
+    public static final StreamCodec<ByteBuf, IntDeltaPropertyData> STREAM_CODEC = StreamCodec.composite(
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
+          ByteBufCodecs.VAR_INT.map(encoded -> (encoded >>> 1) ^ -(encoded & 1), delta -> (delta << 1) ^ (delta >> 31)), data -> data.delta,
+          IntDeltaPropertyData::new
+    );
+
+    private final int delta;
+
+    public IntDeltaPropertyData(short property, int delta) {
+        super(PropertyType.INT_DELTA, property);
+        this.delta = delta;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    @Override
+    public void handleWindowProperty(ISyncableDataHolder container) {
+        throw new IllegalStateException("Deltas must be resolved against the last synced value before being handled.");
+    }
+}
@@ -1,13 +1,19 @@
 package mekanism.common.network.to_client.container.property;
 
-import mekanism.common.inventory.container.MekanismContainer;
+import io.netty.buffer.ByteBuf;
+import mekanism.common.inventory.container.sync.ISyncableDataHolder;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 
 public abstract class PropertyData {
 
     public static final StreamCodec<RegistryFriendlyByteBuf, PropertyData> GENERIC_STREAM_CODEC = PropertyType.STREAM_CODEC.<RegistryFriendlyByteBuf>cast()
           .dispatch(PropertyData::getType, PropertyType::streamCodec);
+    /**
+     * Property indices are written as var ints, as most containers have less than 128 properties, which lets them only take up a single byte.
+     */
+    protected static final StreamCodec<ByteBuf, Short> PROPERTY_STREAM_CODEC = ByteBufCodecs.VAR_INT.map(Integer::shortValue, Short::intValue);
 
     private final PropertyType type;
     private final short property;
@@ -25,5 +31,5 @@ public abstract class PropertyData {
         return property;
     }
 
-    public abstract void handleWindowProperty(MekanismContainer container);
+    public abstract void handleWindowProperty(ISyncableDataHolder container);
 }
\ No newline at end of file
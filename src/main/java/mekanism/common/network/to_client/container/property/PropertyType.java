@@ -43,7 +43,10 @@ public enum PropertyType {
     ITEM_STACK(ItemStack.class, ItemStack.EMPTY, (getter, setter) -> SyncableItemStack.create(() -> (ItemStack) getter.get(), setter::accept), () -> ItemStackPropertyData.STREAM_CODEC),
     FLUID_STACK(FluidStack.class, FluidStack.EMPTY, (getter, setter) -> SyncableFluidStack.create(() -> (FluidStack) getter.get(), setter::accept), () -> FluidStackPropertyData.STREAM_CODEC),
     CHEMICAL_STACK(ChemicalStack.class, ChemicalStack.EMPTY, (getter, setter) -> SyncableChemicalStack.create(() -> (ChemicalStack) getter.get(), setter::accept), () -> ChemicalStackPropertyData.STREAM_CODEC),
-    BLOCK_POS(BlockPos.class, null, (getter, setter) -> SyncableBlockPos.create(() -> (BlockPos) getter.get(), setter::accept), () -> BlockPosPropertyData.STREAM_CODEC);
+    BLOCK_POS(BlockPos.class, null, (getter, setter) -> SyncableBlockPos.create(() -> (BlockPos) getter.get(), setter::accept), () -> BlockPosPropertyData.STREAM_CODEC),
+    //Only used for syncing changes to containers, see PropertyDeltaTracker
+    INT_DELTA(null, null, null, () -> IntDeltaPropertyData.STREAM_CODEC),
+    LONG_DELTA(null, null, null, () -> LongDeltaPropertyData.STREAM_CODEC);
 
     public static final IntFunction<PropertyType> BY_ID = ByIdMap.continuous(PropertyType::ordinal, values(), ByIdMap.OutOfBoundsStrategy.WRAP);
     public static final StreamCodec<ByteBuf, PropertyType> STREAM_CODEC = ByteBufCodecs.idMapper(BY_ID, PropertyType::ordinal);
@@ -1,17 +1,16 @@
 package mekanism.common.network.to_client.container.property.chemical;
 
 import mekanism.api.chemical.ChemicalStack;
-import mekanism.common.inventory.container.MekanismContainer;
+import mekanism.common.inventory.container.sync.ISyncableDataHolder;
 import mekanism.common.network.to_client.container.property.PropertyData;
 import mekanism.common.network.to_client.container.property.PropertyType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 
 public final class ChemicalStackPropertyData extends PropertyData {
 
     public static final StreamCodec<RegistryFriendlyByteBuf, ChemicalStackPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ChemicalStack.OPTIONAL_STREAM_CODEC, data -> data.value,
           ChemicalStackPropertyData::new
     );
@@ -24,7 +23,7 @@ public final class ChemicalStackPropertyData extends PropertyData {
     }
 
     @Override
-    public void handleWindowProperty(MekanismContainer container) {
+    public void handleWindowProperty(ISyncableDataHolder container) {
         container.handleWindowProperty(getProperty(), value);
     }
 }
\ No newline at end of file
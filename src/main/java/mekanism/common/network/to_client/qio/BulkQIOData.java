@@ -23,7 +23,7 @@ public record BulkQIOData(Map<UUIDAwareHashedItem, ItemSlotData> inventory, long
         buffer.writeBoolean(frequency != null);
         if (frequency != null) {
             Map<HashedItem, QIOItemTypeData> itemDataMap = frequency.getItemDataMap();
-            //Manual implementation of encoding PacketUpdateItemViewer.ITEM_MAP_CODEC without having to actually create the intermediary UUIDAwareHashedItem instance
+            //Manual implementation of encoding a map of UUIDAwareHashedItem to count without having to actually create the intermediary UUIDAwareHashedItem instance
             buffer.writeVarInt(itemDataMap.size());
             for (QIOItemTypeData data : itemDataMap.values()) {
                 //The following two lines are equivalent to encoding UUIDAwareHashedItem.STREAM_CODEC
@@ -31,7 +31,7 @@ public record BulkQIOData(Map<UUIDAwareHashedItem, ItemSlotData> inventory, long
                 buffer.writeUUID(data.getItemUUID());
                 buffer.writeVarLong(data.getCount());
             }
-            //End implementation of encoding ITEM_MAP_CODEC
+            //End implementation of encoding the item map
             buffer.writeVarLong(frequency.getTotalItemCountCapacity());
             buffer.writeVarInt(frequency.getTotalItemTypeCapacity());
         }
@@ -1,40 +1,34 @@
 package mekanism.common.network.to_client.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.IMekanismPacket;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.VarLong;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
-public class PacketUpdateItemViewer implements IMekanismPacket {
+/**
+ * Updates the items a player viewing a QIO frequency knows about. Item types are only sent in full the first time they change while the player is viewing the
+ * frequency, at which point they are assigned a handle. Any further changes to that type are sent as the change in count for the handle.
+ *
+ * @param newTypes Types that are being assigned a handle, along with their current count.
+ * @param handles  Handles of types that were already sent.
+ * @param deltas   Change in count for each of the types in {@code handles}.
+ */
+@NothingNullByDefault
+public record PacketUpdateItemViewer(long countCapacity, int typeCapacity, List<NewType> newTypes, int[] handles, long[] deltas) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateItemViewer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_qio"));
-    private static final StreamCodec<RegistryFriendlyByteBuf, Object2LongMap<UUIDAwareHashedItem>> ITEM_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
-          UUIDAwareHashedItem.STREAM_CODEC, ByteBufCodecs.VAR_LONG
-    );
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.VAR_LONG, pkt -> pkt.countCapacity,
-          ByteBufCodecs.VAR_INT, pkt -> pkt.typeCapacity,
-          ITEM_MAP_CODEC, pkt -> pkt.itemMap,
-          PacketUpdateItemViewer::new
-    );
-
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
-    private final long countCapacity;
-    private final int typeCapacity;
-
-    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        this.itemMap = itemMap;
-        this.countCapacity = countCapacity;
-        this.typeCapacity = typeCapacity;
-    }
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = StreamCodec.ofMember(PacketUpdateItemViewer::write,
+          PacketUpdateItemViewer::decode);
 
     @NotNull
     @Override
@@ -45,7 +39,47 @@ public class PacketUpdateItemViewer implements IMekanismPacket {
     @Override
     public void handle(IPayloadContext context) {
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleUpdate(itemMap, countCapacity, typeCapacity);
+            container.handleUpdate(this);
+        }
+    }
+
+    private void write(RegistryFriendlyByteBuf buffer) {
+        VarLong.write(buffer, countCapacity);
+        VarInt.write(buffer, typeCapacity);
+        VarInt.write(buffer, newTypes.size());
+        for (NewType newType : newTypes) {
+            VarInt.write(buffer, newType.handle());
+            UUIDAwareHashedItem.STREAM_CODEC.encode(buffer, newType.item());
+            VarLong.write(buffer, newType.count());
+        }
+        VarInt.write(buffer, handles.length);
+        for (int i = 0; i < handles.length; i++) {
+            VarInt.write(buffer, handles[i]);
+            //Zigzag encode the delta so that small decreases don't take the full ten bytes
+            long delta = deltas[i];
+            VarLong.write(buffer, (delta << 1) ^ (delta >> 63));
         }
     }
-}
\ No newline at end of file
+
+    private static PacketUpdateItemViewer decode(RegistryFriendlyByteBuf buffer) {
+        long countCapacity = VarLong.read(buffer);
+        int typeCapacity = VarInt.read(buffer);
+        int newTypeCount = VarInt.read(buffer);
+        List<NewType> newTypes = new ArrayList<>(newTypeCount);
+        for (int i = 0; i < newTypeCount; i++) {
+            newTypes.add(new NewType(VarInt.read(buffer), UUIDAwareHashedItem.STREAM_CODEC.decode(buffer), VarLong.read(buffer)));
+        }
+        int deltaCount = VarInt.read(buffer);
+        int[] handles = new int[deltaCount];
+        long[] deltas = new long[deltaCount];
+        for (int i = 0; i < deltaCount; i++) {
+            handles[i] = VarInt.read(buffer);
+            long encoded = VarLong.read(buffer);
+            deltas[i] = (encoded >>> 1) ^ -(encoded & 1);
+        }
+        return new PacketUpdateItemViewer(countCapacity, typeCapacity, newTypes, handles, deltas);
+    }
+
+    public record NewType(int handle, UUIDAwareHashedItem item, long count) {
+    }
+}
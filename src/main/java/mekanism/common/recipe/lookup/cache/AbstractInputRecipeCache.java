@@ -1,5 +1,9 @@
 package mekanism.common.recipe.lookup.cache;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -17,6 +21,10 @@ import org.jetbrains.annotations.Nullable;
 public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>> implements IInputRecipeCache {
 
     protected final MekanismRecipeType<?, RECIPE, ?> recipeType;
+    /**
+     * Recipes in the order they were indexed, so that the recipe indices looked up from the input caches can be resolved back into recipes.
+     */
+    protected final List<RECIPE> indexedRecipes = new ArrayList<>();
     protected boolean initialized;
 
     protected AbstractInputRecipeCache(MekanismRecipeType<?, RECIPE, ?> recipeType) {
@@ -27,6 +35,7 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
     public void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
+        indexedRecipes.clear();
     }
 
     /**
@@ -46,6 +55,37 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
      */
     protected abstract void initCache(List<RecipeHolder<RECIPE>> recipes);
 
+    /**
+     * Assigns each recipe an index based on its position in the given list.
+     *
+     * @param recipes Recipes to index.
+     *
+     * @return Index of each recipe, to pass to {@link IInputCache#indexRecipes(Reference2IntMap)}.
+     */
+    protected Reference2IntMap<RECIPE> indexRecipes(List<RecipeHolder<RECIPE>> recipes) {
+        indexedRecipes.clear();
+        Reference2IntMap<RECIPE> recipeIndices = new Reference2IntOpenHashMap<>(recipes.size());
+        for (RecipeHolder<RECIPE> recipeHolder : recipes) {
+            RECIPE recipe = recipeHolder.value();
+            if (!recipeIndices.containsKey(recipe)) {
+                recipeIndices.put(recipe, indexedRecipes.size());
+                indexedRecipes.add(recipe);
+            }
+        }
+        return recipeIndices;
+    }
+
+    /**
+     * Converts the given set of recipes into the indices of those recipes.
+     */
+    protected static <RECIPE extends MekanismRecipe<?>> BitSet getIndices(Set<RECIPE> recipes, Reference2IntMap<RECIPE> recipeIndices) {
+        BitSet indices = new BitSet(recipeIndices.size());
+        for (RECIPE recipe : recipes) {
+            indices.set(recipeIndices.getInt(recipe));
+        }
+        return indices;
+    }
+
     /**
      * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback set contains a matching recipe.
      */
@@ -56,15 +96,30 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
             return false;
         }
         initCacheIfNeeded(world);
+        return !hasNoRecipes(input, inputExtractor, cache, complexRecipes);
+    }
+
+    /**
+     * Helper to check if no recipe accepts the type of the given input, either by being in the given cache, or by being a complex recipe that matches. Inputs that have
+     * no recipes are remembered by the cache until it is cleared on reload, so that machines that keep getting the wrong input don't have to keep checking all the
+     * complex recipes.
+     *
+     * @apiNote Requires the cache to already be initialized.
+     */
+    protected <INPUT, INGREDIENT extends InputIngredient<INPUT>, CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> boolean hasNoRecipes(INPUT input,
+          Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache, Set<RECIPE> complexRecipes) {
         if (cache.contains(input)) {
+            return false;
+        } else if (cache.isKnownToHaveNoRecipes(input)) {
             return true;
         }
         for (RECIPE recipe : complexRecipes) {
             if (inputExtractor.apply(recipe).testType(input)) {
-                return true;
+                return false;
             }
         }
-        return false;
+        cache.markNoRecipes(input);
+        return true;
     }
 
     /**
@@ -1,5 +1,7 @@
 package mekanism.common.recipe.lookup.cache;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -24,6 +26,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
     private final Set<RECIPE> complexIngredientA = new HashSet<>();
     private final Set<RECIPE> complexIngredientB = new HashSet<>();
     private final Set<RECIPE> complexRecipes = new HashSet<>();
+    private BitSet complexIndicesA = IInputCache.NO_RECIPES;
+    private BitSet complexIndicesB = IInputCache.NO_RECIPES;
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final CACHE_A cacheA;
@@ -46,6 +50,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         complexIngredientA.clear();
         complexIngredientB.clear();
         complexRecipes.clear();
+        complexIndicesA = IInputCache.NO_RECIPES;
+        complexIndicesB = IInputCache.NO_RECIPES;
     }
 
     /**
@@ -133,8 +139,9 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      *
      * @return Recipe matching the given inputs, or {@code null} if no recipe matches.
      *
-     * @apiNote This should be used for recipe lookup in cases where we expect that the B input map will be a lot larger so the map based lookup will be more efficient
-     * than looking up based on the A input map and then having to iterate all the recipes. For example the chemical washer recipes.
+     * @implNote The candidate recipes are the intersection of the recipes indexed for both inputs, so which input map is used no longer makes a difference to how many
+     * recipes get tested. Candidates that match the Data Components of the input from the used map are tested first, followed by the remaining candidates in recipe
+     * order, before falling back to the complex recipes.
      */
     @Nullable
     public RECIPE findFirstRecipe(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, boolean useCacheA) {
@@ -143,22 +150,55 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
-        //Lookup a recipe from the specified input map
-        RECIPE recipe;
+        if (hasNoRecipes(inputA, inputAExtractor, cacheA, complexIngredientA) || hasNoRecipes(inputB, inputBExtractor, cacheB, complexIngredientB)) {
+            return null;
+        }
+        BitSet componentIndicesA = cacheA.getComponentRecipeIndices(inputA);
+        BitSet indicesA = cacheA.getRecipeIndices(inputA);
+        BitSet componentIndicesB = cacheB.getComponentRecipeIndices(inputB);
+        BitSet indicesB = cacheB.getRecipeIndices(inputB);
+        //Lookup a recipe from the recipes that are indexed for both inputs (or where the other input is complex so isn't indexed)
+        RECIPE indexedRecipe;
         if (useCacheA) {
-            recipe = findFirstRecipe(inputA, inputB, cacheA.getRecipes(inputA));
+            indexedRecipe = findIndexedRecipe(componentIndicesA, indicesA, componentIndicesB, indicesB, complexIndicesB, inputA, inputB);
         } else {
-            recipe = findFirstRecipe(inputA, inputB, cacheB.getRecipes(inputB));
+            //Iterate the B indices and check against the A indices instead
+            indexedRecipe = findIndexedRecipe(componentIndicesB, indicesB, componentIndicesA, indicesA, complexIndicesA, inputA, inputB);
+        }
+        if (indexedRecipe != null) {
+            return indexedRecipe;
         }
         // if there is no recipe, then check if any of our complex recipes (either a or b being complex) match
-        return recipe == null ? findFirstRecipe(inputA, inputB, complexRecipes) : recipe;
+        for (RECIPE recipe : complexRecipes) {
+            if (recipe.test(inputA, inputB)) {
+                return recipe;
+            }
+        }
+        return null;
     }
 
+    /**
+     * Tests the recipes that are indexed for the iterated input, and are also either indexed for the other input or complex for it. The recipes that match the Data
+     * Components of the iterated input are tested first, as they are more specific.
+     */
     @Nullable
-    private RECIPE findFirstRecipe(INPUT_A inputA, INPUT_B inputB, Iterable<RECIPE> recipes) {
-        for (RECIPE recipe : recipes) {
-            if (recipe.test(inputA, inputB)) {
-                return recipe;
+    private RECIPE findIndexedRecipe(BitSet componentIndices, BitSet indices, BitSet otherComponentIndices, BitSet otherIndices, BitSet otherComplexIndices,
+          INPUT_A inputA, INPUT_B inputB) {
+        for (int index = componentIndices.nextSetBit(0); index >= 0; index = componentIndices.nextSetBit(index + 1)) {
+            if (otherIndices.get(index) || otherComponentIndices.get(index) || otherComplexIndices.get(index)) {
+                RECIPE recipe = indexedRecipes.get(index);
+                if (recipe.test(inputA, inputB)) {
+                    return recipe;
+                }
+            }
+        }
+        for (int index = indices.nextSetBit(0); index >= 0; index = indices.nextSetBit(index + 1)) {
+            //Skip the recipes we already tested
+            if (!componentIndices.get(index) && (otherIndices.get(index) || otherComponentIndices.get(index) || otherComplexIndices.get(index))) {
+                RECIPE recipe = indexedRecipes.get(index);
+                if (recipe.test(inputA, inputB)) {
+                    return recipe;
+                }
             }
         }
         return null;
@@ -228,6 +268,11 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
                 complexRecipes.add(recipe);
             }
         }
+        Reference2IntMap<RECIPE> recipeIndices = indexRecipes(recipes);
+        cacheA.indexRecipes(recipeIndices);
+        cacheB.indexRecipes(recipeIndices);
+        complexIndicesA = getIndices(complexIngredientA, recipeIndices);
+        complexIndicesB = getIndices(complexIngredientB, recipeIndices);
     }
 
     /**
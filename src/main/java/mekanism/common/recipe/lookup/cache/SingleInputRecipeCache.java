@@ -65,6 +65,9 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        if (hasNoRecipes(input, inputExtractor, cache, complexRecipes)) {
+            return null;
+        }
         RECIPE recipe = findFirstRecipe(input, cache.getRecipes(input));
         return recipe == null ? findFirstRecipe(input, complexRecipes) : recipe;
     }
@@ -1,5 +1,7 @@
 package mekanism.common.recipe.lookup.cache;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -25,6 +27,8 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
     private final Set<RECIPE> complexIngredientB = new HashSet<>();
     private final Set<RECIPE> complexIngredientC = new HashSet<>();
     private final Set<RECIPE> complexRecipes = new HashSet<>();
+    private BitSet complexIndicesB = IInputCache.NO_RECIPES;
+    private BitSet complexIndicesC = IInputCache.NO_RECIPES;
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
     private final Function<RECIPE, INGREDIENT_C> inputCExtractor;
@@ -53,6 +57,8 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         complexIngredientB.clear();
         complexIngredientC.clear();
         complexRecipes.clear();
+        complexIndicesB = IInputCache.NO_RECIPES;
+        complexIndicesC = IInputCache.NO_RECIPES;
     }
 
     /**
@@ -211,24 +217,48 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      *
      * @return Recipe matching the given inputs, or {@code null} if no recipe matches.
      *
-     * @implNote Lookups up the recipe first from the A input map (the fact that it is A is arbitrary and just as well could be B or C).
+     * @implNote Intersects the recipes indexed for each input, starting from the A input map (the fact that it is A is arbitrary and just as well could be B or C).
+     * Candidates that match the Data Components of input A are tested first, followed by the remaining candidates in recipe order.
      */
     @Nullable
     public RECIPE findFirstRecipe(@Nullable Level world, INPUT_A inputA, INPUT_B inputB, INPUT_C inputC) {
-        if (cacheA.isEmpty(inputA) || cacheB.isEmpty(inputB)) {
+        if (cacheA.isEmpty(inputA) || cacheB.isEmpty(inputB) || cacheC.isEmpty(inputC)) {
             //Don't allow empty inputs
             return null;
         }
         initCacheIfNeeded(world);
-        //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
-        RECIPE recipe = findFirstRecipe(inputA, inputB, inputC, cacheA.getRecipes(inputA));
+        if (hasNoRecipes(inputA, inputAExtractor, cacheA, complexIngredientA) || hasNoRecipes(inputB, inputBExtractor, cacheB, complexIngredientB) ||
+            hasNoRecipes(inputC, inputCExtractor, cacheC, complexIngredientC)) {
+            return null;
+        }
+        BitSet componentIndicesA = cacheA.getComponentRecipeIndices(inputA);
+        BitSet indicesA = cacheA.getRecipeIndices(inputA);
+        BitSet componentIndicesB = cacheB.getComponentRecipeIndices(inputB);
+        BitSet indicesB = cacheB.getRecipeIndices(inputB);
+        BitSet componentIndicesC = cacheC.getComponentRecipeIndices(inputC);
+        BitSet indicesC = cacheC.getRecipeIndices(inputC);
+        //Lookup a recipe from the recipes that are indexed for all inputs (or where the other inputs are complex so aren't indexed)
+        for (int index = componentIndicesA.nextSetBit(0); index >= 0; index = componentIndicesA.nextSetBit(index + 1)) {
+            if ((indicesB.get(index) || componentIndicesB.get(index) || complexIndicesB.get(index)) &&
+                (indicesC.get(index) || componentIndicesC.get(index) || complexIndicesC.get(index))) {
+                RECIPE recipe = indexedRecipes.get(index);
+                if (recipe.test(inputA, inputB, inputC)) {
+                    return recipe;
+                }
+            }
+        }
+        for (int index = indicesA.nextSetBit(0); index >= 0; index = indicesA.nextSetBit(index + 1)) {
+            //Skip the recipes we already tested
+            if (!componentIndicesA.get(index) && (indicesB.get(index) || componentIndicesB.get(index) || complexIndicesB.get(index)) &&
+                (indicesC.get(index) || componentIndicesC.get(index) || complexIndicesC.get(index))) {
+                RECIPE recipe = indexedRecipes.get(index);
+                if (recipe.test(inputA, inputB, inputC)) {
+                    return recipe;
+                }
+            }
+        }
         // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
-        return recipe == null ? findFirstRecipe(inputA, inputB, inputC, complexRecipes) : recipe;
-    }
-
-    @Nullable
-    private RECIPE findFirstRecipe(INPUT_A inputA, INPUT_B inputB, INPUT_C inputC, Iterable<RECIPE> recipes) {
-        for (RECIPE recipe : recipes) {
+        for (RECIPE recipe : complexRecipes) {
             if (recipe.test(inputA, inputB, inputC)) {
                 return recipe;
             }
@@ -256,5 +286,11 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
                 complexRecipes.add(recipe);
             }
         }
+        Reference2IntMap<RECIPE> recipeIndices = indexRecipes(recipes);
+        cacheA.indexRecipes(recipeIndices);
+        cacheB.indexRecipes(recipeIndices);
+        cacheC.indexRecipes(recipeIndices);
+        complexIndicesB = getIndices(complexIngredientB, recipeIndices);
+        complexIndicesC = getIndices(complexIngredientC, recipeIndices);
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -20,12 +22,20 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
     /**
      * Map of keys representing inputs to a set of the recipes that contain said input. This allows for quick contains checking by checking if a key exists, as well as
      * quicker recipe lookup.
+     *
+     * @implNote The keys are registry objects, so we can compare them by reference rather than having to hash and compare them by value.
+     */
+    private final Map<KEY, List<RECIPE>> inputCache = new Reference2ObjectOpenHashMap<>();
+    /**
+     * Map of keys representing inputs to the indices of the recipes that contain said input. This allows multi input caches to intersect the candidate recipes of each
+     * input rather than having to test every recipe of one of the inputs.
      */
-    private final Map<KEY, List<RECIPE>> inputCache = new HashMap<>();
+    private final Map<KEY, BitSet> indexCache = new Reference2ObjectOpenHashMap<>();
 
     @Override
     public void clear() {
         inputCache.clear();
+        indexCache.clear();
     }
 
     @Override
@@ -59,6 +69,31 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
         return inputCache.getOrDefault(createKey(input), Collections.emptyList());
     }
 
+    @Override
+    public BitSet getRecipeIndices(INPUT input) {
+        return indexCache.getOrDefault(createKey(input), NO_RECIPES);
+    }
+
+    @Override
+    public void indexRecipes(Reference2IntMap<RECIPE> recipeIndices) {
+        indexCache.clear();
+        indexRecipes(inputCache, indexCache, recipeIndices);
+    }
+
+    /**
+     * Helper to convert the lists of recipes in an input cache into the indices of those recipes.
+     */
+    protected static <K, RECIPE extends MekanismRecipe<?>> void indexRecipes(Map<K, List<RECIPE>> recipeCache, Map<K, BitSet> indexCache,
+          Reference2IntMap<RECIPE> recipeIndices) {
+        for (Map.Entry<K, List<RECIPE>> entry : recipeCache.entrySet()) {
+            BitSet indices = new BitSet(recipeIndices.size());
+            for (RECIPE recipe : entry.getValue()) {
+                indices.set(recipeIndices.getInt(recipe));
+            }
+            indexCache.put(entry.getKey(), indices);
+        }
+    }
+
     /**
      * Creates a key for the given input for use in querying our input cache.
      *
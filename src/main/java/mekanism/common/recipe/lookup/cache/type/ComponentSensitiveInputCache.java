@@ -3,7 +3,10 @@ package mekanism.common.recipe.lookup.cache.type;
 import com.google.common.collect.Iterables;
 import it.unimi.dsi.fastutil.Hash;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenCustomHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -18,20 +21,64 @@ import mekanism.api.recipes.ingredients.InputIngredient;
 public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe<?>>
       extends BaseInputCache<KEY, INPUT, INGREDIENT, RECIPE> {
 
+    /**
+     * Max number of inputs without recipes to remember, so that inputs with lots of different components can't grow the cache without bound.
+     */
+    private static final int MAX_INPUTS_WITHOUT_RECIPES = 1_024;
+
     /**
      * Map of NBT based keys representing inputs to a set of the recipes that contain said input. This allows for quick contains checking by checking if a key exists, as
      * well as quicker recipe lookup.
      */
     private final Map<INPUT, List<RECIPE>> componentInputCache;
+    /**
+     * Map of NBT based keys representing inputs to the indices of the recipes that contain said input.
+     */
+    private final Map<INPUT, BitSet> componentIndexCache;
+    /**
+     * Inputs including their Data Components that are known to not be accepted by any recipe, in the order they were added so that the oldest can be evicted first.
+     *
+     * @implNote Unlike the rest of the cache this gets written to during lookups, and in singleplayer the client thread looks up recipes in the same caches as the
+     * server (for example to validate slots), so all access to it is synchronized.
+     */
+    private final ObjectLinkedOpenCustomHashSet<INPUT> inputsWithoutRecipes;
 
     protected ComponentSensitiveInputCache(Hash.Strategy<? super INPUT> componentHashStrategy) {
         this.componentInputCache = new Object2ObjectOpenCustomHashMap<>(0, Hash.VERY_FAST_LOAD_FACTOR, componentHashStrategy);
+        this.componentIndexCache = new Object2ObjectOpenCustomHashMap<>(0, Hash.VERY_FAST_LOAD_FACTOR, componentHashStrategy);
+        this.inputsWithoutRecipes = new ObjectLinkedOpenCustomHashSet<>(componentHashStrategy);
     }
 
     @Override
     public void clear() {
         super.clear();
         componentInputCache.clear();
+        componentIndexCache.clear();
+        synchronized (inputsWithoutRecipes) {
+            inputsWithoutRecipes.clear();
+        }
+    }
+
+    @Override
+    public boolean isKnownToHaveNoRecipes(INPUT input) {
+        //Note: Checking if it is empty without holding the lock is fine, as if we see an outdated size we just end up checking the complex recipes
+        if (inputsWithoutRecipes.isEmpty()) {
+            return false;
+        }
+        synchronized (inputsWithoutRecipes) {
+            return inputsWithoutRecipes.contains(input);
+        }
+    }
+
+    @Override
+    public void markNoRecipes(INPUT input) {
+        INPUT key = createComponentKey(input);
+        synchronized (inputsWithoutRecipes) {
+            if (inputsWithoutRecipes.size() >= MAX_INPUTS_WITHOUT_RECIPES) {
+                inputsWithoutRecipes.removeFirst();
+            }
+            inputsWithoutRecipes.add(key);
+        }
     }
 
     /**
@@ -65,6 +112,30 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
         return Iterables.concat(nbtRecipes, basicRecipes);
     }
 
+    @Override
+    public BitSet getComponentRecipeIndices(INPUT input) {
+        if (componentIndexCache.isEmpty()) {
+            return NO_RECIPES;
+        }
+        return componentIndexCache.getOrDefault(input, NO_RECIPES);
+    }
+
+    @Override
+    public void indexRecipes(Reference2IntMap<RECIPE> recipeIndices) {
+        super.indexRecipes(recipeIndices);
+        componentIndexCache.clear();
+        indexRecipes(componentInputCache, componentIndexCache, recipeIndices);
+    }
+
+    /**
+     * Creates a copy of the given input that is safe to persist in this cache.
+     *
+     * @param input Input to copy.
+     *
+     * @return Copy of the input including any Data Component data, with the size normalized as we don't care about it.
+     */
+    protected abstract INPUT createComponentKey(INPUT input);
+
     /**
      * Adds a given recipe to the input cache using the corresponding Data Component based key.
      *
@@ -43,7 +43,7 @@ public class FluidInputCache<RECIPE extends MekanismRecipe<?>> extends Component
             for (FluidStack fluid : input.getStacks()) {
                 //Note: We copy it with a count of one, as we need to copy it anyway to ensure nothing somehow causes our backing map to mutate it,
                 // so while we are at it, we just set the size to one, as we don't care about the size
-                addNbtInputCache(fluid.copyWithAmount(1), recipe);
+                addNbtInputCache(createComponentKey(fluid), recipe);
             }
         } else {
             //Else it is a custom ingredient, so we don't have a great way of handling it using the normal extraction checks
@@ -58,6 +58,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe<?>> extends Component
         return stack.getFluid();
     }
 
+    @Override
+    protected FluidStack createComponentKey(FluidStack stack) {
+        return stack.copyWithAmount(1);
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
@@ -1,5 +1,7 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import java.util.BitSet;
 import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
@@ -11,6 +13,13 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe<?>> {
 
+    /**
+     * Shared empty set of recipe indices for inputs that have no recipes.
+     *
+     * @apiNote Do not modify.
+     */
+    BitSet NO_RECIPES = new BitSet(0);
+
     /**
      * Checks if this {@link IInputCache} knows about the given input.
      *
@@ -41,6 +50,32 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
      */
     Iterable<RECIPE> getRecipes(INPUT input);
 
+    /**
+     * Gets the indices of the recipes that the given input is used in. Similar to {@link #getRecipes(Object)} no validation is done regarding the amounts.
+     *
+     * @param input Input to check.
+     *
+     * @return Indices of the recipes for the given input, as assigned by {@link #indexRecipes(Reference2IntMap)}.
+     *
+     * @apiNote The returned set may be shared and must not be modified. It will be empty if {@link #indexRecipes(Reference2IntMap)} hasn't been called since the inputs
+     * were mapped.
+     */
+    BitSet getRecipeIndices(INPUT input);
+
+    /**
+     * Gets the indices of the recipes that the given input is used in when also taking its Data Components into account. These recipes are more specific than the ones
+     * from {@link #getRecipeIndices(Object)}, so they should be checked first.
+     *
+     * @param input Input to check.
+     *
+     * @return Indices of the Data Component specific recipes for the given input, as assigned by {@link #indexRecipes(Reference2IntMap)}.
+     *
+     * @apiNote The returned set may be shared and must not be modified. The same recipe may be present in both this and {@link #getRecipeIndices(Object)}.
+     */
+    default BitSet getComponentRecipeIndices(INPUT input) {
+        return NO_RECIPES;
+    }
+
     /**
      * Finds the first recipe for the given input that matches the given match criteria. Note: that no validation is done here about the input matching the recipe's
      * criteria in regard to required amounts, all that is done regarding the input is that the type is used in the recipe.
@@ -53,6 +88,30 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
     @Nullable
     RECIPE findFirstRecipe(INPUT input, Predicate<RECIPE> matchCriteria);
 
+    /**
+     * Checks if this {@link IInputCache} has been told that no recipe accepts the type of the given input.
+     *
+     * @param input Input to check.
+     *
+     * @return {@code true} if the input is known to have no recipes, {@code false} if it may have recipes or this cache doesn't keep track of inputs without recipes.
+     *
+     * @see #markNoRecipes(Object)
+     */
+    default boolean isKnownToHaveNoRecipes(INPUT input) {
+        return false;
+    }
+
+    /**
+     * Remembers that no recipe accepts the type of the given input, so that repeated lookups for it can be skipped until the cache is cleared.
+     *
+     * @param input Input that has no recipes.
+     *
+     * @implNote Only caches that have inputs which may get checked against complex ingredients need to keep track of this, as otherwise {@link #contains(Object)} is
+     * already able to tell that there are no recipes.
+     */
+    default void markNoRecipes(INPUT input) {
+    }
+
     /**
      * Maps the given ingredient and adds it into this {@link IInputCache} as a quicker lookup for the given recipe.
      *
@@ -64,6 +123,13 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
      */
     boolean mapInputs(RECIPE recipe, INGREDIENT inputIngredient);
 
+    /**
+     * Builds the sets of recipe indices returned by {@link #getRecipeIndices(Object)} for all the inputs that have been mapped.
+     *
+     * @param recipeIndices Index of each recipe that was mapped.
+     */
+    void indexRecipes(Reference2IntMap<RECIPE> recipeIndices);
+
     /**
      * Clears this {@link IInputCache}
      */
@@ -43,7 +43,7 @@ public class ItemInputCache<RECIPE extends MekanismRecipe<?>> extends ComponentS
             for (ItemStack item : input.getItems()) {
                 //Note: We copy it with a count of one, as we need to copy it anyway to ensure nothing somehow causes our backing map to mutate it,
                 // so while we are at it, we just set the size to one, as we don't care about the size
-                addNbtInputCache(item.copyWithCount(1), recipe);
+                addNbtInputCache(createComponentKey(item), recipe);
             }
         } else {
             //Else it is a custom ingredient, so we don't have a great way of handling it using the normal extraction checks
@@ -58,6 +58,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe<?>> extends ComponentS
         return stack.getItem();
     }
 
+    @Override
+    protected ItemStack createComponentKey(ItemStack stack) {
+        return stack.copyWithCount(1);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
@@ -1,16 +1,23 @@
 package mekanism.common.recipe.lookup.monitor;
 
+import java.util.function.IntFunction;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class FactoryRecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> extends RecipeCacheLookupMonitor<RECIPE> {
 
     private final Runnable setSortingNeeded;
+    private final IntFunction<RECIPE> recipeLookup;
 
-    public FactoryRecipeCacheLookupMonitor(IRecipeLookupHandler<RECIPE> handler, int cacheIndex, Runnable setSortingNeeded) {
+    /**
+     * @param recipeLookup Looks up the recipe for a process, allowing the factory to share lookups between processes that have identical inputs.
+     */
+    public FactoryRecipeCacheLookupMonitor(IRecipeLookupHandler<RECIPE> handler, int cacheIndex, Runnable setSortingNeeded, IntFunction<RECIPE> recipeLookup) {
         super(handler, cacheIndex);
         this.setSortingNeeded = setSortingNeeded;
+        this.recipeLookup = recipeLookup;
     }
 
     @Override
@@ -20,6 +27,12 @@ public class FactoryRecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> e
         setSortingNeeded.run();
     }
 
+    @Nullable
+    @Override
+    public RECIPE getRecipe(int cacheIndex) {
+        return cachedIndexMatches(cacheIndex) ? recipeLookup.apply(cacheIndex) : null;
+    }
+
     public void updateCachedRecipe(@NotNull RECIPE recipe) {
         cachedRecipe = createNewCachedRecipe(recipe, cacheIndex);
         //Note: While this is probably not strictly needed we clear our cache of knowing we have no recipe
@@ -64,11 +64,32 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
     }
 
     public boolean updateAndProcess() {
+        updateCachedRecipe();
+        return process();
+    }
+
+    /**
+     * Updates the cached recipe, looking up a new one if the inputs no longer match it.
+     *
+     * @return {@code true} if there is a cached recipe.
+     */
+    public boolean updateCachedRecipe() {
         CachedRecipe<RECIPE> oldCache = cachedRecipe;
         cachedRecipe = getUpdatedCache(cacheIndex);
         if (cachedRecipe != oldCache) {
             handler.onCachedRecipeChanged(cachedRecipe, cacheIndex);
         }
+        return cachedRecipe != null;
+    }
+
+    /**
+     * Processes the current cached recipe without checking if it is still up to date.
+     *
+     * @return {@code true} if there is a cached recipe.
+     *
+     * @apiNote {@link #updateCachedRecipe()} should have been called earlier in the tick.
+     */
+    public boolean process() {
         if (cachedRecipe != null) {
             if (shouldUnpause) {
                 shouldUnpause = false;
@@ -84,6 +84,7 @@ import mekanism.common.inventory.container.ITrackableContainer;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableDouble;
 import mekanism.common.inventory.container.sync.SyncableEnum;
+import mekanism.common.inventory.container.sync.SyncableFloat;
 import mekanism.common.inventory.container.sync.SyncableFluidStack;
 import mekanism.common.inventory.container.sync.SyncableLong;
 import mekanism.common.inventory.container.sync.chemical.SyncableChemicalStack;
@@ -634,10 +635,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             }
         }
         boolean sendUpdatePacket = tile.onUpdateServer();
-        if (tile.updateRadiationScale()) {
-            sendUpdatePacket = true;
-        }
-        //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
+        tile.updateRadiationScale();
         if (tile.canHandleHeat()) {
             // update heat after server tick as we now have simulated changes
             // we use persists, as only one reference should update
@@ -662,6 +660,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (sendUpdatePacket) {
             tile.sendUpdatePacket();
         }
+        tile.syncChangedFields();
     }
 
     public void open(Player player) {
@@ -944,6 +943,12 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         container.track(SyncableLong.create(lastEnergyTracker::getLastEnergyReceived, lastEnergyTracker::setLastEnergyReceived));
     }
 
+    @Override
+    protected void addSyncFields(TileSyncFields syncFields) {
+        super.addSyncFields(syncFields);
+        syncFields.track(SyncableFloat.create(() -> radiationScale, value -> radiationScale = value));
+    }
+
     @NotNull
     @Override
     public CompoundTag getReducedUpdateTag(@NotNull HolderLookup.Provider provider) {
@@ -1227,15 +1232,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     /**
      * @apiNote Only call on server.
      */
-    private boolean updateRadiationScale() {
+    private void updateRadiationScale() {
         if (shouldDumpRadiation()) {
             float scale = ITileRadioactive.calculateRadiationScale(getChemicalTanks(null));
             if (Math.abs(scale - radiationScale) > 0.05F) {
                 radiationScale = scale;
-                return true;
             }
         }
-        return false;
     }
 
     @Override
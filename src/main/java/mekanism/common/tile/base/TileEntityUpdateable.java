@@ -5,8 +5,8 @@ import java.util.List;
 import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.common.Mekanism;
-import mekanism.common.network.PacketUtils;
-import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.TileUpdateBatcher;
+import mekanism.common.network.to_client.container.property.PropertyData;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
@@ -37,6 +37,8 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private boolean cacheCoord;
     private long lastSave;
     private final long worldPositionLong;
+    @Nullable
+    private TileSyncFields syncFields;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -165,21 +167,52 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         handleUpdateTag(tag, provider);
     }
 
+    /**
+     * Queues the tile's update tag to be sent to all players tracking it at the end of the tick, multiple calls during the same tick only send it once.
+     */
     public void sendUpdatePacket() {
-        sendUpdatePacket(this);
-    }
-
-    public void sendUpdatePacket(BlockEntity tracking) {
         if (isRemote()) {
             Mekanism.logger.warn("Update packet call requested from client side", new IllegalStateException());
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
-        } else if (PacketUtils.hasPlayersTracking((ServerLevel) tracking.getLevel(), tracking.getBlockPos())) {
+        } else {
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            PacketUtils.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            TileUpdateBatcher.queueUpdate((ServerLevel) getWorldNN(), this);
+        }
+    }
+
+    /**
+     * Checks if any of the tile's sync fields changed, and if so queues the changed fields to be sent to all players tracking it at the end of the tick.
+     *
+     * @apiNote Only call on the server, and at most once per tick.
+     */
+    protected void syncChangedFields() {
+        TileSyncFields syncFields = getSyncFields();
+        if (!syncFields.isEmpty()) {
+            Level world = getWorldNN();
+            List<PropertyData> changedFields = syncFields.collectChanges(world.registryAccess());
+            if (changedFields != null) {
+                TileUpdateBatcher.queueChangedFields((ServerLevel) world, this, changedFields);
+            }
+        }
+    }
+
+    public TileSyncFields getSyncFields() {
+        if (syncFields == null) {
+            syncFields = new TileSyncFields(this);
+            addSyncFields(syncFields);
         }
+        return syncFields;
+    }
+
+    /**
+     * Adds any fields that should be synced to the client by only sending them when they change, instead of sending the entire update tag.
+     *
+     * @implNote The order fields are added in must be the same on both sides.
+     */
+    protected void addSyncFields(TileSyncFields syncFields) {
     }
 
     protected void updateModelData() {
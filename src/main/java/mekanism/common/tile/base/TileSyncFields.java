@@ -0,0 +1,76 @@
+package mekanism.common.tile.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.common.Mekanism;
+import mekanism.common.inventory.container.sync.ISyncableData;
+import mekanism.common.inventory.container.sync.ISyncableData.DirtyType;
+import mekanism.common.inventory.container.sync.ISyncableDataHolder;
+import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.util.RegistryUtils;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Fields of a tile that are synced to the players tracking it by only sending the fields that changed, rather than the entire update tag. Changes are checked for once
+ * per tick and get sent together with any other updates for tiles in the same chunk.
+ *
+ * @apiNote The fields should still be written to the tile's update tag, as that is what is sent to players when they start tracking the tile.
+ */
+public class TileSyncFields implements ISyncableDataHolder {
+
+    private final List<ISyncableData> trackedData = new ArrayList<>();
+    private final TileEntityUpdateable tile;
+
+    TileSyncFields(TileEntityUpdateable tile) {
+        this.tile = tile;
+    }
+
+    public void track(ISyncableData data) {
+        trackedData.add(data);
+    }
+
+    public boolean isEmpty() {
+        return trackedData.isEmpty();
+    }
+
+    /**
+     * Collects the fields that changed since this was last called.
+     *
+     * @return The changed fields, or {@code null} if nothing changed.
+     *
+     * @apiNote Only call on the server.
+     */
+    @Nullable
+    List<PropertyData> collectChanges(RegistryAccess registryAccess) {
+        List<PropertyData> dirtyData = null;
+        for (short i = 0; i < trackedData.size(); i++) {
+            ISyncableData data = trackedData.get(i);
+            DirtyType dirtyType = data.isDirty();
+            if (dirtyType != DirtyType.CLEAN) {
+                if (dirtyData == null) {
+                    dirtyData = new ArrayList<>();
+                }
+                dirtyData.add(data.getPropertyData(registryAccess, i, dirtyType));
+            }
+        }
+        return dirtyData;
+    }
+
+    @Nullable
+    @Override
+    public ISyncableData getTrackedData(short property) {
+        if (property >= 0 && property < trackedData.size()) {
+            return trackedData.get(property);
+        }
+        Mekanism.logger.warn("Received out of bounds sync field {} for tile {}. There are currently {} tracked fields.", property,
+              RegistryUtils.getName(tile.getType()), trackedData.size());
+        return null;
+    }
+
+    @Override
+    public Level getLevel() {
+        return tile.getWorldNN();
+    }
+}
@@ -5,6 +5,7 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,6 +29,7 @@ import mekanism.common.capabilities.holder.energy.EnergyContainerHelper;
 import mekanism.common.capabilities.holder.energy.IEnergyContainerHolder;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.blocktype.FactoryType;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerIInventorySlotWrapper;
@@ -93,6 +95,12 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
      * An int[] used to track all current operations' progress.
      */
     public final int[] progress;
+    /**
+     * Inputs and results of the recipe lookups processes did this tick while batching, so that processes holding identical inputs only look up their recipe once.
+     */
+    private final ItemStack[] batchedLookupInputs;
+    private final List<RECIPE> batchedLookupResults;
+    private boolean batchingLookups;
     /**
      * How many ticks it takes, with upgrades, to run an operation
      */
@@ -141,6 +149,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
 
         progress = new int[tier.processes];
         activeStates = new boolean[tier.processes];
+        batchedLookupInputs = new ItemStack[tier.processes];
+        batchedLookupResults = new ArrayList<>(Collections.nCopies(tier.processes, null));
         recheckAllRecipeErrors = new BooleanSupplier[tier.processes];
         for (int i = 0; i < recheckAllRecipeErrors.length; i++) {
             //Note: We store one per slot so that we can recheck the different slots at different times to reduce the load on the server
@@ -170,7 +180,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         Runnable setSortingNeeded = () -> sortingNeeded = true;
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded, this::lookupRecipe);
         }
     }
 
@@ -242,10 +252,28 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
         // we can then use minusEqual instead of subtract to remove an extra copy call
         long prev = energyContainer.getEnergy();
-        for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            if (!recipeCacheLookupMonitors[i].updateAndProcess()) {
-                //If we don't have a recipe in that slot make sure that our active state for that position is false
-                activeStates[i] = false;
+        if (MekanismConfig.general.batchedFactoryProcessing.get()) {
+            //Update the recipes of all processes before processing any of them, so that the inputs don't change between lookups
+            // and processes with identical inputs can share the result of a single lookup
+            batchingLookups = true;
+            for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+                cacheLookupMonitor.updateCachedRecipe();
+            }
+            batchingLookups = false;
+            Arrays.fill(batchedLookupInputs, null);
+            Collections.fill(batchedLookupResults, null);
+            for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
+                if (!recipeCacheLookupMonitors[i].process()) {
+                    //If we don't have a recipe in that slot make sure that our active state for that position is false
+                    activeStates[i] = false;
+                }
+            }
+        } else {
+            for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
+                if (!recipeCacheLookupMonitors[i].updateAndProcess()) {
+                    //If we don't have a recipe in that slot make sure that our active state for that position is false
+                    activeStates[i] = false;
+                }
             }
         }
 
@@ -263,6 +291,30 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         return sendUpdatePacket;
     }
 
+    /**
+     * Looks up the recipe for the given process. While batching, processes that have the same input as a process that already looked up its recipe this tick reuse
+     * that result instead.
+     *
+     * @implNote Any secondary inputs are shared between all processes, and nothing gets processed while batching, so identical inputs always give the same recipe.
+     */
+    @Nullable
+    private RECIPE lookupRecipe(int process) {
+        if (!batchingLookups) {
+            return getRecipe(process);
+        }
+        ItemStack input = processInfoSlots[process].inputSlot().getStack();
+        for (int other = 0; other < process; other++) {
+            ItemStack otherInput = batchedLookupInputs[other];
+            if (otherInput != null && ItemStack.matches(otherInput, input)) {
+                return batchedLookupResults.get(other);
+            }
+        }
+        RECIPE recipe = getRecipe(process);
+        batchedLookupInputs[process] = input;
+        batchedLookupResults.set(process, recipe);
+        return recipe;
+    }
+
     /**
      * Checks if the cached recipe (or recipe for current factory if the cache is out of date) can produce a specific output.
      *
@@ -7,6 +7,7 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
@@ -39,8 +40,10 @@ import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.SortableFilterManager;
+import mekanism.common.content.miner.MinerBlockChangeTracker;
 import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.miner.MinerRegionCache;
+import mekanism.common.content.miner.MinerSearchResult;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
@@ -68,6 +71,7 @@ import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import mekanism.common.tile.interfaces.IBoundingBlock;
@@ -122,6 +126,16 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::markForSave);
     private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    /**
+     * Result of the last search, this is kept when the miner is reset and updated as blocks in the region change so that restarting the miner doesn't require searching
+     * the entire region again.
+     */
+    @Nullable
+    private volatile MinerSearchResult searchResult;
+    /**
+     * Whether we are currently mining a block, and should therefore ignore block changes as we update our results ourselves.
+     */
+    private boolean mining;
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> pullInventory;
@@ -258,7 +272,12 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
                 // being too much to fit
                 energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
                 if (delay == 0) {
-                    tryMineBlock();
+                    mining = true;
+                    try {
+                        tryMineBlock();
+                    } finally {
+                        mining = false;
+                    }
                     delay = getDelay();
                 }
             } else {
@@ -296,13 +315,74 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         return sendUpdatePacket;
     }
 
-    public void updateFromSearch(Long2ObjectMap<BitSet> oresToMine, int found) {
-        this.oresToMine = oresToMine;
+    public void updateFromSearch(MinerSearchResult result, int found) {
+        this.oresToMine = result.getOresToMine();
+        searchResult = result;
         cachedToMine = found;
+        MinerBlockChangeTracker.track(getWorldNN().dimension(), this, result);
         updateTargetChunk(null);
         markForSave();
     }
 
+    /**
+     * Called when a block changes so that our search results stay up to date without having to search the region again.
+     */
+    public void onBlockChanged(BlockPos pos, BlockState state) {
+        MinerSearchResult result = searchResult;
+        if (result == null || mining) {
+            return;
+        } else if (isRemoved()) {
+            MinerBlockChangeTracker.untrack(this);
+            return;
+        }
+        int index = result.getIndex(pos);
+        if (index == -1 || !result.wasSearched(pos)) {
+            //Outside our region, or in a chunk that will be fully searched anyway
+            return;
+        }
+        //Only adjust how many blocks we have left if the result is the one we are currently mining from
+        boolean current = result.getOresToMine() == oresToMine;
+        long chunk = ChunkPos.asLong(pos);
+        BitSet chunkToMine = result.getOresToMine().get(chunk);
+        if (shouldMine(result, pos, state)) {
+            if (chunkToMine == null) {
+                chunkToMine = new BitSet();
+                result.getOresToMine().put(chunk, chunkToMine);
+            }
+            if (!chunkToMine.get(index)) {
+                chunkToMine.set(index);
+                if (current) {
+                    cachedToMine++;
+                }
+            }
+        } else if (chunkToMine != null && chunkToMine.get(index)) {
+            chunkToMine.clear(index);
+            if (chunkToMine.isEmpty()) {
+                result.getOresToMine().remove(chunk);
+            }
+            if (current) {
+                cachedToMine--;
+            }
+        }
+    }
+
+    private boolean shouldMine(MinerSearchResult result, BlockPos pos, BlockState state) {
+        if (!ThreadMinerSearch.isMineableState(state) || pos.equals(getBlockPos())) {
+            return false;
+        }
+        Block block = state.getBlock();
+        Reference2BooleanMap<Block> acceptedBlocks = result.getAcceptedBlocks();
+        boolean accepted;
+        if (acceptedBlocks.containsKey(block)) {
+            accepted = acceptedBlocks.getBoolean(block);
+        } else {
+            //Note: Replace targets are never accepted, and inverse mode is the opposite of whether a filter matches
+            accepted = !isReplaceTarget(block.asItem()) && inverse != filterManager.anyEnabledMatch(state, MinerFilter::canFilter);
+            acceptedBlocks.put(block, accepted);
+        }
+        return accepted && state.getDestroySpeed(level, pos) >= 0 && WorldUtils.getTileEntity(TileEntityBoundingBlock.class, level, pos) == null;
+    }
+
     public int getDelay() {
         return delayLength;
     }
@@ -794,6 +874,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         if (searcher.state == State.IDLE) {
             BlockPos startingPos = getStartingPos();
             int diameter = getDiameter();
+            MinerSearchResult previous = searchResult;
+            if (previous != null && previous.matchesRegion(startingPos, diameter, getMaxY() - getMinY() + 1)) {
+                //Copy the previous result so that it can keep being updated while the search reads it
+                searcher.setPreviousResult(previous.copy());
+            }
             searcher.setChunkCache(new MinerRegionCache((ServerLevel) getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter), this.upgradeComponent.isUpgradeInstalled(Upgrade.ANCHOR)));
             searcher.start();
         }
@@ -803,7 +888,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+            searcher.cancel();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -815,8 +900,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     public void reset() {
-        if (searcher != null && searcher.isAlive()) {
-            searcher.interrupt();
+        if (searcher != null && searcher.isRunning()) {
+            searcher.cancel();
         }
         searcher = new ThreadMinerSearch(this);
         running = false;
@@ -885,6 +970,14 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         tag.remove(SerializationConstants.STATE);
     }
 
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (hasLevel() && !isRemote()) {
+            MinerBlockChangeTracker.untrack(this);
+        }
+    }
+
     @Override
     public void setLevel(@NotNull Level world) {
         super.setLevel(world);
@@ -1217,7 +1310,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     @ComputerMethod(methodDescription = "Get the count of block found but not yet mined")
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
     }
 
     @ComputerMethod(methodDescription = "Whether the miner is currently running")
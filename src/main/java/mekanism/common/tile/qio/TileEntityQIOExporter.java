@@ -3,6 +3,7 @@ package mekanism.common.tile.qio;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.Collection;
 import java.util.Map;
@@ -140,24 +141,41 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
     }
 
     private Object2LongMap<HashedItem> getFilterEjectMap(QIOFrequency freq) {
-        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
+        //Note: The frequency's lookups are views rather than copies, so unless multiple filters match something we can use them as is
+        Object2LongMap<HashedItem> firstMatches = null;
+        Object2LongMap<HashedItem> map = null;
         for (QIOFilter<?> filter : getFilterManager().getEnabledFilters()) {
-            if (filter instanceof QIOItemStackFilter itemFilter) {
-                if (itemFilter.fuzzyMode) {
-                    map.putAll(freq.getStacksByItem(itemFilter.getItemStack().getItem()));
-                } else {
-                    HashedItem type = HashedItem.create(itemFilter.getItemStack());
-                    map.put(type, freq.getStoredByHash(type));
+            Object2LongMap<HashedItem> matches = getFilterMatches(freq, filter);
+            if (matches.isEmpty()) {
+                continue;
+            } else if (firstMatches == null) {
+                firstMatches = matches;
+            } else {
+                if (map == null) {
+                    map = new Object2LongOpenHashMap<>(firstMatches);
                 }
-            } else if (filter instanceof QIOTagFilter tagFilter) {
-                String tagName = tagFilter.getTagName();
-                map.putAll(freq.getStacksByTagWildcard(tagName));
-            } else if (filter instanceof QIOModIDFilter modIDFilter) {
-                String modID = modIDFilter.getModID();
-                map.putAll(freq.getStacksByModIDWildcard(modID));
+                map.putAll(matches);
+            }
+        }
+        if (map != null) {
+            return map;
+        }
+        return firstMatches == null ? Object2LongMaps.emptyMap() : firstMatches;
+    }
+
+    private Object2LongMap<HashedItem> getFilterMatches(QIOFrequency freq, QIOFilter<?> filter) {
+        if (filter instanceof QIOItemStackFilter itemFilter) {
+            if (itemFilter.fuzzyMode) {
+                return freq.getStacksByItem(itemFilter.getItemStack().getItem());
             }
+            HashedItem type = HashedItem.create(itemFilter.getItemStack());
+            return Object2LongMaps.singleton(type, freq.getStoredByHash(type));
+        } else if (filter instanceof QIOTagFilter tagFilter) {
+            return freq.getStacksByTagWildcard(tagFilter.getTagName());
+        } else if (filter instanceof QIOModIDFilter modIDFilter) {
+            return freq.getStacksByModIDWildcard(modIDFilter.getModID());
         }
-        return map;
+        return Object2LongMaps.emptyMap();
     }
 
     @ComputerMethod
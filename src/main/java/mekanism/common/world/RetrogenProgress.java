@@ -0,0 +1,62 @@
+package mekanism.common.world;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.Mekanism;
+
+/**
+ * Keeps track of how fast chunks are being retrogenned, so that the progress can be periodically logged along with an estimate of how long the remaining chunks will
+ * take.
+ */
+public class RetrogenProgress {
+
+    private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+
+    private long lastReport = System.nanoTime();
+    private long chunksSinceReport;
+    private long totalChunks;
+
+    public void chunkProcessed() {
+        if (totalChunks == 0) {
+            //Don't count the time where there were no chunks to retrogen towards the throughput
+            lastReport = System.nanoTime();
+        }
+        chunksSinceReport++;
+        totalChunks++;
+    }
+
+    /**
+     * Logs the progress if enough time has passed since it was last logged, or if there are no chunks left to retrogen.
+     *
+     * @param remaining The number of chunks that are still queued to be retrogenned.
+     */
+    public void report(long remaining) {
+        long now = System.nanoTime();
+        long elapsed = now - lastReport;
+        if (elapsed < REPORT_INTERVAL && remaining > 0) {
+            return;
+        }
+        if (chunksSinceReport > 0) {
+            double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+            double chunksPerSecond = chunksSinceReport / seconds;
+            Mekanism.logger.info("Retrogenned {} chunks in the last {} seconds ({} chunks per second, {} in total). {} chunks remaining, estimated time remaining: {}",
+                  chunksSinceReport, Math.round(seconds), String.format("%.1f", chunksPerSecond), totalChunks, remaining,
+                  formatDuration(Math.round(remaining / chunksPerSecond)));
+        }
+        lastReport = now;
+        chunksSinceReport = 0;
+        if (remaining == 0) {
+            //Start counting from scratch the next time chunks get queued
+            totalChunks = 0;
+        }
+    }
+
+    public void reset() {
+        lastReport = System.nanoTime();
+        chunksSinceReport = 0;
+        totalChunks = 0;
+    }
+
+    private static String formatDuration(long seconds) {
+        return String.format("%d:%02d:%02d", seconds / 3_600, (seconds / 60) % 60, seconds % 60);
+    }
+}
@@ -0,0 +1,72 @@
+package mekanism.common.lib.collection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LongMinHeap implementation")
+class LongMinHeapTest {
+
+    @Test
+    @DisplayName("Test elements are dequeued in priority order")
+    void testOrdering() {
+        LongMinHeap heap = new LongMinHeap(2);
+        heap.enqueueOrUpdate(5, 5);
+        heap.enqueueOrUpdate(1, 1);
+        heap.enqueueOrUpdate(3, 3);
+        heap.enqueueOrUpdate(4, 4);
+        heap.enqueueOrUpdate(2, 2);
+        Assertions.assertEquals(5, heap.size());
+        for (long expected = 1; expected <= 5; expected++) {
+            Assertions.assertEquals(expected, heap.dequeue());
+        }
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertThrows(NoSuchElementException.class, heap::dequeue);
+    }
+
+    @Test
+    @DisplayName("Test updating the priority of queued elements")
+    void testUpdate() {
+        LongMinHeap heap = new LongMinHeap();
+        heap.enqueueOrUpdate(10, 10);
+        heap.enqueueOrUpdate(20, 20);
+        heap.enqueueOrUpdate(30, 30);
+        heap.enqueueOrUpdate(30, 5);
+        heap.enqueueOrUpdate(10, 25);
+        Assertions.assertEquals(3, heap.size());
+        Assertions.assertTrue(heap.contains(10));
+        Assertions.assertEquals(30, heap.dequeue());
+        Assertions.assertEquals(20, heap.dequeue());
+        Assertions.assertEquals(10, heap.dequeue());
+        Assertions.assertFalse(heap.contains(10));
+    }
+
+    @Test
+    @DisplayName("Test heap stays ordered under random operations")
+    void testRandom() {
+        Random random = new Random(42);
+        LongMinHeap heap = new LongMinHeap();
+        Map<Long, Double> expectedPriorities = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            long element = random.nextInt(200);
+            double priority = random.nextDouble();
+            heap.enqueueOrUpdate(element, priority);
+            expectedPriorities.put(element, priority);
+        }
+        Assertions.assertEquals(expectedPriorities.size(), heap.size());
+        double last = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            long element = heap.first();
+            Assertions.assertEquals(element, heap.dequeue());
+            Assertions.assertFalse(heap.contains(element));
+            double priority = expectedPriorities.remove(element);
+            Assertions.assertTrue(priority >= last);
+            last = priority;
+        }
+        Assertions.assertTrue(expectedPriorities.isEmpty());
+    }
+}
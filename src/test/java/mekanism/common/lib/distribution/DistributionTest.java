@@ -136,4 +136,39 @@ class DistributionTest {
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test deferring inserts only gives the planned amounts to the handlers once they are applied")
+    void testDeferredDistribution() {
+        int toSend = 10;
+        IntegerTarget availableAcceptors = getTargets(7, 0, 0);
+        availableAcceptors.deferInserts();
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, VOID_RESOURCE));
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertEquals(0, handler.getAccepted());
+        }
+        Assertions.assertEquals(toSend, availableAcceptors.applyDeferred());
+        int accepted = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertTrue(handler.getAccepted() == 1 || handler.getAccepted() == 2);
+            accepted += handler.getAccepted();
+        }
+        Assertions.assertEquals(toSend, accepted);
+    }
+
+    @Test
+    @DisplayName("Test applying deferred inserts reports how much was actually accepted")
+    void testDeferredDistributionAcceptsLess() {
+        int toSend = 9;
+        IntegerTarget availableAcceptors = new IntegerTarget();
+        IntegerHandler specificHandler = new SpecificAmountIntegerHandler(4);
+        IntegerHandler lyingHandler = new LyingAmountIntegerHandler(1, 10);
+        availableAcceptors.addHandler(specificHandler);
+        availableAcceptors.addHandler(lyingHandler);
+        availableAcceptors.deferInserts();
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, VOID_RESOURCE));
+        Assertions.assertEquals(5, availableAcceptors.applyDeferred());
+        Assertions.assertEquals(1, lyingHandler.getAccepted());
+        Assertions.assertEquals(4, specificHandler.getAccepted());
+    }
+}
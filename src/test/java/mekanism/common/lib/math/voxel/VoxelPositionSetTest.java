@@ -0,0 +1,118 @@
+package mekanism.common.lib.math.voxel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test VoxelPositionSet implementation")
+class VoxelPositionSetTest {
+
+    private static final BlockPos MIN = new BlockPos(-3, 60, 10);
+    private static final BlockPos MAX = new BlockPos(2, 64, 13);
+
+    private static VoxelPositionSet createSet() {
+        return new VoxelPositionSet(new VoxelCuboid(MIN, MAX));
+    }
+
+    @Test
+    @DisplayName("Test adding, checking and removing positions at the bounds")
+    void testBounds() {
+        VoxelPositionSet set = createSet();
+        Assertions.assertTrue(set.add(MIN));
+        Assertions.assertTrue(set.add(MAX));
+        Assertions.assertFalse(set.add(MAX));
+        Assertions.assertEquals(2, set.size());
+        Assertions.assertTrue(set.contains(MIN));
+        Assertions.assertTrue(set.contains(MAX.getX(), MAX.getY(), MAX.getZ()));
+        Assertions.assertFalse(set.contains(new BlockPos(MIN.getX(), MIN.getY(), MAX.getZ())));
+        Assertions.assertFalse(set.contains(MIN.below()));
+        Assertions.assertFalse(set.contains(MAX.east()));
+        Assertions.assertFalse(set.contains("not a position"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.add(MIN.north()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> set.add(MAX.above()));
+        Assertions.assertFalse(set.remove(MAX.south()));
+        Assertions.assertTrue(set.remove(MIN));
+        Assertions.assertFalse(set.remove(MIN));
+        Assertions.assertFalse(set.contains(MIN));
+        Assertions.assertTrue(set.contains(MAX));
+        Assertions.assertEquals(1, set.size());
+        set.clear();
+        Assertions.assertTrue(set.isEmpty());
+        Assertions.assertFalse(set.contains(MAX));
+    }
+
+    @Test
+    @DisplayName("Test positions are iterated by x, then z, then y")
+    void testIterationOrder() {
+        VoxelPositionSet set = createSet();
+        List<BlockPos> expected = new ArrayList<>();
+        for (int y = MIN.getY(); y <= MAX.getY(); y++) {
+            for (int z = MIN.getZ(); z <= MAX.getZ(); z++) {
+                for (int x = MIN.getX(); x <= MAX.getX(); x++) {
+                    expected.add(new BlockPos(x, y, z));
+                }
+            }
+        }
+        //Add them in reverse to make sure the order doesn't depend on the order they were added in
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            set.add(expected.get(i));
+        }
+        Assertions.assertEquals(expected.size(), set.size());
+        Assertions.assertEquals(expected, new ArrayList<>(set));
+    }
+
+    @Test
+    @DisplayName("Test removing positions while iterating")
+    void testIteratorRemove() {
+        VoxelPositionSet set = createSet();
+        set.add(MIN);
+        set.add(new BlockPos(0, 62, 11));
+        set.add(MAX);
+        Iterator<BlockPos> iterator = set.iterator();
+        Assertions.assertThrows(IllegalStateException.class, iterator::remove);
+        Assertions.assertEquals(MIN, iterator.next());
+        iterator.remove();
+        Assertions.assertThrows(IllegalStateException.class, iterator::remove);
+        Assertions.assertEquals(new BlockPos(0, 62, 11), iterator.next());
+        Assertions.assertEquals(MAX, iterator.next());
+        iterator.remove();
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(Set.of(new BlockPos(0, 62, 11)), set);
+    }
+
+    @Test
+    @DisplayName("Test equals and hashCode match a HashSet of the same positions")
+    void testEqualsAndHashCode() {
+        VoxelPositionSet set = createSet();
+        Set<BlockPos> expected = new HashSet<>();
+        Assertions.assertEquals(expected, set);
+        Assertions.assertEquals(expected.hashCode(), set.hashCode());
+        for (BlockPos pos : List.of(MIN, MAX, new BlockPos(-1, 61, 12), new BlockPos(2, 60, 10), new BlockPos(-3, 64, 13))) {
+            set.add(pos);
+            expected.add(pos);
+            Assertions.assertEquals(expected, set);
+            Assertions.assertEquals(set, expected);
+            Assertions.assertEquals(expected.hashCode(), set.hashCode());
+        }
+        //Sets with different bounds but the same positions are still equal
+        VoxelPositionSet larger = new VoxelPositionSet(new VoxelCuboid(MIN.offset(-1, -1, -1), MAX.offset(1, 1, 1)));
+        larger.addAll(expected);
+        Assertions.assertEquals(set, larger);
+        Assertions.assertEquals(set.hashCode(), larger.hashCode());
+        VoxelPositionSet same = createSet();
+        same.addAll(expected);
+        Assertions.assertEquals(set, same);
+        same.remove(MAX);
+        Assertions.assertNotEquals(set, same);
+        expected.remove(MAX);
+        Assertions.assertNotEquals(expected, set);
+        Assertions.assertEquals(expected, same);
+        Assertions.assertEquals(expected.hashCode(), same.hashCode());
+    }
+}